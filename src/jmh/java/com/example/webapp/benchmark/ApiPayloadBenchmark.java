@@ -0,0 +1,159 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.entity.Course;
+import com.example.webapp.entity.Dept;
+import com.example.webapp.entity.Student;
+import com.example.webapp.entity.Teacher;
+import com.example.webapp.entity.User;
+import com.example.webapp.service.DeptService;
+import com.example.webapp.service.TeacherService;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The /api responses as they are now (DTO projections) against the entities they used to
+ * serialize: query plus JSON serialization, which is what differs between the two; the HTTP and
+ * security layers are the same for both and left out. Serialized sizes are printed at setup.
+ * <p>
+ * Serializing the entities as they are never finishes (Student.enrolledCourses and
+ * Course.enrolledStudents point at each other), so the baseline cuts every inverse side and
+ * Teacher.students, the least an entity response needed to work at all. It runs in a read-only
+ * transaction, standing in for open-in-view, so the lazy associations load as they did.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiPayloadBenchmark {
+
+    @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+    private interface ProxyMixin {
+    }
+
+    private interface CourseMixin {
+        @JsonIgnore
+        Set<Student> getEnrolledStudents();
+    }
+
+    private interface StudentMixin {
+        @JsonIgnore
+        Set<Teacher> getTeachers();
+    }
+
+    private interface TeacherMixin {
+        @JsonIgnore
+        Set<Student> getStudents();
+
+        @JsonIgnore
+        Set<Course> getCreatedCourses();
+    }
+
+    private interface DeptMixin {
+        @JsonIgnore
+        Set<Teacher> getTeachers();
+
+        @JsonIgnore
+        Set<Student> getStudents();
+
+        @JsonIgnore
+        Set<Course> getCourses();
+    }
+
+    private interface UserMixin {
+        @JsonIgnore
+        Student getStudent();
+
+        @JsonIgnore
+        Teacher getTeacher();
+    }
+
+    private ObjectMapper dtoMapper;
+    private ObjectMapper entityMapper;
+    private TransactionTemplate openSession;
+    private DeptService deptService;
+    private TeacherService teacherService;
+    private long studentId;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        dtoMapper = app.context.getBean(ObjectMapper.class);
+        entityMapper = dtoMapper.rebuild()
+                .addMixIn(Object.class, ProxyMixin.class)
+                .addMixIn(Course.class, CourseMixin.class)
+                .addMixIn(Student.class, StudentMixin.class)
+                .addMixIn(Teacher.class, TeacherMixin.class)
+                .addMixIn(Dept.class, DeptMixin.class)
+                .addMixIn(User.class, UserMixin.class)
+                .build();
+        openSession = new TransactionTemplate(app.context.getBean(PlatformTransactionManager.class));
+        openSession.setReadOnly(true);
+        deptService = app.context.getBean(DeptService.class);
+        teacherService = app.context.getBean(TeacherService.class);
+        // Synthetic students differ by at most one enrollment, so any of them is typical
+        studentId = app.studentIds[0];
+
+        printSize("/courses/api", coursesAsEntities(app), coursesAsDtos(app));
+        printSize("/teachers/api", teachersAsEntities(), teachersAsDtos());
+        printSize("/departments/api", departmentsAsEntities(), departmentsAsDtos());
+        printSize("/students/api/{id}", studentAsEntity(app), studentAsDto(app));
+    }
+
+    @Benchmark
+    public byte[] coursesAsEntities(ApplicationState app) {
+        return asEntities(app.courseService::getAllCourses);
+    }
+
+    // Served from the query cache after the first call, which is what production sees too
+    @Benchmark
+    public byte[] coursesAsDtos(ApplicationState app) {
+        return dtoMapper.writeValueAsBytes(app.courseService.getCourseCatalog());
+    }
+
+    @Benchmark
+    public byte[] teachersAsEntities() {
+        return asEntities(teacherService::getAllTeachers);
+    }
+
+    @Benchmark
+    public byte[] teachersAsDtos() {
+        return dtoMapper.writeValueAsBytes(teacherService.getAllTeacherSummaries());
+    }
+
+    @Benchmark
+    public byte[] departmentsAsEntities() {
+        return asEntities(deptService::getAllDepartments);
+    }
+
+    @Benchmark
+    public byte[] departmentsAsDtos() {
+        return dtoMapper.writeValueAsBytes(deptService.getAllDepartmentSummaries());
+    }
+
+    @Benchmark
+    public byte[] studentAsEntity(ApplicationState app) {
+        return asEntities(() -> app.studentService.getStudentById(studentId).orElseThrow());
+    }
+
+    @Benchmark
+    public byte[] studentAsDto(ApplicationState app) {
+        return dtoMapper.writeValueAsBytes(app.studentService.getStudentSummary(studentId).orElseThrow());
+    }
+
+    private byte[] asEntities(Supplier<Object> load) {
+        return openSession.execute(status -> entityMapper.writeValueAsBytes(load.get()));
+    }
+
+    private static void printSize(String endpoint, byte[] entities, byte[] dtos) {
+        System.out.printf("%-20s entities %,10d bytes, DTOs %,10d bytes%n", endpoint, entities.length, dtos.length);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.loadtest.InProcessApplication;
+import com.example.webapp.loadtest.SyntheticDataGenerator;
+import com.example.webapp.loadtest.SyntheticDataset;
+import com.example.webapp.service.CourseService;
+import com.example.webapp.service.CustomUserDetailsService;
+import com.example.webapp.service.EnrollmentService;
+import com.example.webapp.service.StudentService;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.AuthenticationManager;
+
+import java.util.stream.IntStream;
+
+/**
+ * Boots the application once per fork against the in-memory H2 database of the test profile
+ * (PostgreSQL mode, same Flyway schema) and seeds a mid-sized synthetic data set. Pass
+ * -jvmArgsAppend -Dbenchmark.profile=default in jmh.args to run against the configured PostgreSQL.
+ */
+@State(Scope.Benchmark)
+public class ApplicationState {
+
+    static final SyntheticDataGenerator.Scale SCALE = new SyntheticDataGenerator.Scale(10, 50, 500, 5_000, 25_000);
+
+    ConfigurableApplicationContext context;
+    StudentService studentService;
+    CourseService courseService;
+    EnrollmentService enrollmentService;
+    CustomUserDetailsService userDetailsService;
+    AuthenticationManager authenticationManager;
+
+    long[] studentIds;
+    long[] courseIds;
+    String[] rolls;
+    String[] usernames;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = InProcessApplication.start(System.getProperty("benchmark.profile", "test").split(","));
+        studentService = context.getBean(StudentService.class);
+        courseService = context.getBean(CourseService.class);
+        enrollmentService = context.getBean(EnrollmentService.class);
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+        authenticationManager = context.getBean(AuthenticationManager.class);
+
+        SyntheticDataset dataset = new SyntheticDataGenerator(context, 42L).generate(SCALE);
+        studentIds = IntStream.range(0, dataset.getStudents()).mapToLong(dataset::studentId).toArray();
+        courseIds = IntStream.range(0, dataset.getCourses()).mapToLong(dataset::courseId).toArray();
+        rolls = IntStream.range(0, dataset.getStudents()).mapToObj(SyntheticDataset::roll).toArray(String[]::new);
+        usernames = IntStream.range(0, dataset.getStudents()).mapToObj(SyntheticDataset::studentUsername)
+                .toArray(String[]::new);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.loadtest.SyntheticDataset;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// Principal lookups with and without the account cache, and whole logins, which BCrypt dominates
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    // Every seeded student fits in the cache; loading them all up front keeps misses out of the measurement
+    @State(Scope.Benchmark)
+    public static class WarmCache {
+        @Setup(Level.Trial)
+        public void load(ApplicationState app) {
+            for (String username : app.usernames) {
+                app.userDetailsService.loadUserByUsername(username);
+            }
+        }
+    }
+
+    @Benchmark
+    public UserDetails cachedPrincipalLookup(ApplicationState app, WarmCache warm, Cursor cursor) {
+        return app.userDetailsService.loadUserByUsername(app.usernames[cursor.next++ % app.usernames.length]);
+    }
+
+    @Benchmark
+    public UserDetails uncachedPrincipalLookup(ApplicationState app, Cursor cursor) {
+        String username = app.usernames[cursor.next++ % app.usernames.length];
+        app.userDetailsService.evict(username);
+        return app.userDetailsService.loadUserByUsername(username);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Authentication login(ApplicationState app, Cursor cursor) {
+        return app.authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(
+                app.usernames[cursor.next++ % app.usernames.length], SyntheticDataset.PASSWORD));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserts 100k students through Hibernate, once with JDBC batching switched off for the session
+ * and once at the configured batch size, so the effect of pooled ids plus batching is measured
+ * on the ORM path rather than on the raw JDBC loader of the data generator.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchInsertBenchmark {
+
+    static final int ROWS = 100_000;
+
+    // Keeps the persistence context small; one transaction covers all rows
+    static final int FLUSH_EVERY = 1_000;
+
+    private static final String ROLL_PREFIX = "BI-";
+
+    @Param({"1", "50"})
+    int batchSize;
+
+    private EntityManagerFactory entityManagerFactory;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        entityManagerFactory = app.context.getBean(EntityManagerFactory.class);
+        jdbcTemplate = app.context.getBean(JdbcTemplate.class);
+    }
+
+    @Benchmark
+    public int insertStudents() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            entityManager.getTransaction().begin();
+            for (int i = 0; i < ROWS; i++) {
+                entityManager.persist(new Student("Batch Student " + i, ROLL_PREFIX + i, "batch" + i + "@example.com"));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            entityManager.getTransaction().commit();
+            return ROWS;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedRows() {
+        jdbcTemplate.update("delete from students where roll like '" + ROLL_PREFIX + "%'");
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.service.EnrollmentService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnrollmentBenchmark {
+
+    // Enrolls a random student in a random course and undoes it, leaving the data set unchanged
+    @Benchmark
+    public EnrollmentService.Result enrollThenUnenroll(ApplicationState app) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long studentId = app.studentIds[random.nextInt(app.studentIds.length)];
+        long courseId = app.courseIds[random.nextInt(app.courseIds.length)];
+
+        EnrollmentService.Result result = app.enrollmentService.enroll(studentId, courseId);
+        if (result == EnrollmentService.Result.ENROLLED) {
+            return app.enrollmentService.unenroll(studentId, courseId);
+        }
+        return result;
+    }
+
+    // Sixteen threads on one course, so every reservation queues on the same row lock; read p99 off the sample
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @Threads(16)
+    public EnrollmentService.Result enrollThenUnenrollHotCourse(ApplicationState app) {
+        long studentId = app.studentIds[ThreadLocalRandom.current().nextInt(app.studentIds.length)];
+        long courseId = app.courseIds[0];
+
+        EnrollmentService.Result result = app.enrollmentService.enroll(studentId, courseId);
+        if (result == EnrollmentService.Result.ENROLLED) {
+            return app.enrollmentService.unenroll(studentId, courseId);
+        }
+        return result;
+    }
+}
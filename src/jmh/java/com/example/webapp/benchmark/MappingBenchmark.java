@@ -0,0 +1,61 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.config.AppConfig;
+import com.example.webapp.dto.StudentDTO;
+import com.example.webapp.entity.Student;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// ModelMapper as configured in AppConfig against the field-by-field copy StudentController uses
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private StudentDTO dto;
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new AppConfig().modelMapper();
+        dto = new StudentDTO();
+        dto.setName("Jane Doe");
+        dto.setRoll("2024001");
+        dto.setEmail("jane@example.com");
+        student = new Student("Jane Doe", "2024001", "jane@example.com");
+    }
+
+    @Benchmark
+    public Student modelMapperToEntity() {
+        return modelMapper.map(dto, Student.class);
+    }
+
+    @Benchmark
+    public Student handWrittenToEntity() {
+        Student result = new Student();
+        result.setName(dto.getName());
+        result.setRoll(dto.getRoll());
+        result.setEmail(dto.getEmail());
+        return result;
+    }
+
+    @Benchmark
+    public StudentDTO modelMapperToDto() {
+        return modelMapper.map(student, StudentDTO.class);
+    }
+
+    @Benchmark
+    public StudentDTO handWrittenToDto() {
+        StudentDTO result = new StudentDTO();
+        result.setName(student.getName());
+        result.setRoll(student.getRoll());
+        result.setEmail(student.getEmail());
+        return result;
+    }
+}
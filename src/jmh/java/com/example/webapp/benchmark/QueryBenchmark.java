@@ -0,0 +1,50 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.dto.CourseSuggestionDTO;
+import com.example.webapp.dto.CourseSummaryDTO;
+import com.example.webapp.entity.Student;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryBenchmark {
+
+    // Typeahead keystrokes: code prefixes of the synthetic catalogue and words of course names
+    private static final String[] SUGGEST_PREFIXES = {"c", "com-1", "mat-12", "phy", "prob", "ecol", "sta-10"};
+
+    // Walks through the seeded rows so every call looks up a different student
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Optional<Student> findByRoll(ApplicationState app, Cursor cursor) {
+        return app.studentService.findByRoll(app.rolls[cursor.next++ % app.rolls.length]);
+    }
+
+    // Served from the query cache after the first call, which is what production sees too
+    @Benchmark
+    public List<CourseSummaryDTO> courseCatalog(ApplicationState app) {
+        return app.courseService.getCourseCatalog();
+    }
+
+    @Benchmark
+    public Slice<CourseSummaryDTO> availableCourses(ApplicationState app, Cursor cursor) {
+        return app.courseService.getAvailableCourses(app.studentIds[cursor.next++ % app.studentIds.length], null, 0);
+    }
+
+    // In-memory index; no database round trip
+    @Benchmark
+    public List<CourseSuggestionDTO> courseSuggest(ApplicationState app, Cursor cursor) {
+        return app.courseService.suggestCourses(SUGGEST_PREFIXES[cursor.next++ % SUGGEST_PREFIXES.length], 10);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.webapp.benchmark;
+
+import com.example.webapp.dto.SearchPageDTO;
+import com.example.webapp.loadtest.InProcessApplication;
+import com.example.webapp.loadtest.SyntheticDataGenerator;
+import com.example.webapp.service.SearchService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First search page at load-test scale: 200,000 students, 1,000 teachers and 5,000 courses.
+ * The full-text path only runs on PostgreSQL, so pass -jvmArgsAppend -Dbenchmark.profile=default
+ * in jmh.args; on the test profile's H2 this measures the LIKE fallback instead. The data set is
+ * the load test's default one, so both reuse what the other loaded.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchBenchmark {
+
+    static final SyntheticDataGenerator.Scale SCALE =
+            new SyntheticDataGenerator.Scale(40, 1_000, 5_000, 200_000, 2_000_000L);
+
+    // A name shared by one student in twenty, a pair of them, identifiers whole and by prefix,
+    // a course word, partial words and typos, and a term that matches nothing
+    @Param({"maya", "patel", "maya patel", "LS0012345", "ls00123", "algorithms", "COM-1000",
+            "algor", "patell", "ptel", "xyzzy"})
+    public String term;
+
+    private ConfigurableApplicationContext context;
+    private SearchService searchService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = InProcessApplication.start(System.getProperty("benchmark.profile", "test").split(","));
+        new SyntheticDataGenerator(context, 42L).generate(SCALE);
+        searchService = context.getBean(SearchService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public SearchPageDTO firstPage() {
+        return searchService.search(term, null, 0, SearchService.DEFAULT_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.webapp.loadtest;
+
+import com.example.webapp.WebappApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the application inside the benchmark or load-test JVM. The "test" profile runs on
+ * in-memory H2 in PostgreSQL mode; the default profile uses the PostgreSQL from application.yml.
+ */
+public final class InProcessApplication {
+
+    private InProcessApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... profiles) {
+        // System properties win over the profile's yml: quiet SQL logging, no Docker, random port, no DevTools restart
+        System.setProperty("logging.level.org.hibernate.SQL", "WARN");
+        System.setProperty("logging.level.com.example.webapp", "INFO");
+        System.setProperty("spring.docker.compose.enabled", "false");
+        System.setProperty("server.port", "0");
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        return new SpringApplicationBuilder(WebappApplication.class).profiles(profiles).run();
+    }
+}
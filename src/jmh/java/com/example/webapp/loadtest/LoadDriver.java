@@ -0,0 +1,272 @@
+package com.example.webapp.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays the student registration flow over HTTP against a running instance. In the SESSION
+ * scenario each virtual user loops through login, browse available courses, enroll, view
+ * profile and logout as a random synthetic student, with its own cookie jar. ENROLL_AND_PROFILE
+ * logs in once and then only alternates enroll and profile requests, which keeps the server
+ * busy with the JDBC-bound part of the flow. Latencies are only recorded after the warm-up and
+ * are kept per step.
+ */
+public class LoadDriver {
+
+    public enum Scenario {
+        SESSION(EnumSet.allOf(Step.class)),
+        ENROLL_AND_PROFILE(EnumSet.of(Step.LOGIN, Step.ENROLL, Step.PROFILE));
+
+        private final Set<Step> steps;
+
+        Scenario(Set<Step> steps) {
+            this.steps = steps;
+        }
+    }
+
+    public enum Step {
+        LOGIN,
+        BROWSE_AVAILABLE,
+        ENROLL,
+        PROFILE,
+        LOGOUT
+    }
+
+    public record StepResult(Step step, long requests, long errors, double throughput,
+                             double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final Pattern ENROLL_ACTION = Pattern.compile("action=\"/courses/enroll/(\\d+)\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    // Latencies up to one minute, three significant digits
+    private static final long MAX_TRACKED_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final URI baseUri;
+    private final SyntheticDataset dataset;
+    private final Scenario scenario;
+    private final int virtualUsers;
+    private final Map<Step, Histogram> latencies = new LinkedHashMap<>();
+    private final Map<Step, LongAdder> errors = new LinkedHashMap<>();
+
+    private volatile boolean running;
+    private volatile boolean recording;
+
+    public LoadDriver(URI baseUri, SyntheticDataset dataset, Scenario scenario, int virtualUsers) {
+        this.baseUri = baseUri;
+        this.dataset = dataset;
+        this.scenario = scenario;
+        this.virtualUsers = virtualUsers;
+        for (Step step : Step.values()) {
+            latencies.put(step, new ConcurrentHistogram(MAX_TRACKED_NANOS, 3));
+            errors.put(step, new LongAdder());
+        }
+    }
+
+    public List<StepResult> run(Duration warmup, Duration duration) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(virtualUsers);
+        running = true;
+        for (int i = 0; i < virtualUsers; i++) {
+            executor.submit(this::virtualUser);
+        }
+
+        log.info("{} virtual users warming up for {}", virtualUsers, warmup);
+        Thread.sleep(warmup.toMillis());
+        recording = true;
+        long started = System.nanoTime();
+        log.info("Recording for {}", duration);
+        Thread.sleep(duration.toMillis());
+        recording = false;
+        double elapsedSeconds = (System.nanoTime() - started) / 1e9;
+
+        running = false;
+        executor.shutdown();
+        if (!executor.awaitTermination(REQUEST_TIMEOUT.toSeconds() * 2, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+
+        List<StepResult> results = new ArrayList<>();
+        for (Step step : scenario.steps) {
+            Histogram histogram = latencies.get(step);
+            results.add(new StepResult(step, histogram.getTotalCount(), errors.get(step).sum(),
+                    histogram.getTotalCount() / elapsedSeconds,
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(95)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getMaxValue())));
+        }
+        return results;
+    }
+
+    private void virtualUser() {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+        while (running) {
+            try {
+                if (scenario == Scenario.SESSION) {
+                    session(client);
+                } else {
+                    enrollAndProfile(client);
+                }
+            } catch (IOException e) {
+                log.debug("Session aborted: {}", e.toString());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // One student session; a failed step ends the session early
+    private void session(HttpClient client) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int student = random.nextInt(dataset.getStudents());
+
+        String loginPage = client.send(get("/login"), HttpResponse.BodyHandlers.ofString()).body();
+        HttpResponse<String> login = timed(Step.LOGIN, client, post("/perform_login", csrf(loginPage),
+                "username", SyntheticDataset.studentUsername(student), "password", SyntheticDataset.PASSWORD),
+                response -> response.statusCode() == 302 && location(response).endsWith("/home"));
+        if (login == null) {
+            return;
+        }
+
+        // Most students stay on the first pages of the listing
+        int page = (int) (5 * random.nextDouble() * random.nextDouble());
+        HttpResponse<String> available = timed(Step.BROWSE_AVAILABLE, client,
+                get("/courses/available?page=" + page), response -> response.statusCode() == 200);
+        if (available == null) {
+            return;
+        }
+
+        String token = csrf(available.body());
+        List<String> courseIds = new ArrayList<>();
+        Matcher enroll = ENROLL_ACTION.matcher(available.body());
+        while (enroll.find()) {
+            courseIds.add(enroll.group(1));
+        }
+        if (!courseIds.isEmpty()) {
+            // A full course is a valid outcome: the redirect carries the error flash
+            String courseId = courseIds.get(random.nextInt(courseIds.size()));
+            timed(Step.ENROLL, client, post("/courses/enroll/" + courseId, token),
+                    response -> response.statusCode() == 302);
+        }
+
+        timed(Step.PROFILE, client, get("/profile"), response -> response.statusCode() == 200);
+        timed(Step.LOGOUT, client, post("/logout", token), response -> response.statusCode() == 302);
+    }
+
+    // Stays logged in until the run ends or the session is lost
+    private void enrollAndProfile(HttpClient client) throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String loginPage = client.send(get("/login"), HttpResponse.BodyHandlers.ofString()).body();
+        HttpResponse<String> login = timed(Step.LOGIN, client, post("/perform_login", csrf(loginPage),
+                "username", SyntheticDataset.studentUsername(random.nextInt(dataset.getStudents())),
+                "password", SyntheticDataset.PASSWORD),
+                response -> response.statusCode() == 302 && location(response).endsWith("/home"));
+        if (login == null) {
+            return;
+        }
+        String token = csrf(client.send(get("/courses/available"), HttpResponse.BodyHandlers.ofString()).body());
+
+        while (running) {
+            String courseId = String.valueOf(dataset.courseId(random.nextInt(dataset.getCourses())));
+            HttpResponse<String> enroll = timed(Step.ENROLL, client, post("/courses/enroll/" + courseId, token),
+                    response -> response.statusCode() == 302 && !location(response).contains("/login"));
+            HttpResponse<String> profile = timed(Step.PROFILE, client, get("/profile"),
+                    response -> response.statusCode() == 200);
+            if (enroll == null || profile == null) {
+                return;
+            }
+        }
+    }
+
+    private HttpResponse<String> timed(Step step, HttpClient client, HttpRequest request,
+                                       Predicate<HttpResponse<String>> success)
+            throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recordError(step);
+            throw e;
+        }
+        long elapsed = System.nanoTime() - started;
+        if (recording) {
+            latencies.get(step).recordValue(Math.min(elapsed, MAX_TRACKED_NANOS));
+        }
+        if (!success.test(response)) {
+            recordError(step);
+            return null;
+        }
+        return response;
+    }
+
+    private void recordError(Step step) {
+        if (recording) {
+            errors.get(step).increment();
+        }
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+
+    private HttpRequest post(String path, String csrfToken, String... fields) {
+        StringBuilder form = new StringBuilder("_csrf=").append(encode(csrfToken));
+        for (int i = 0; i < fields.length; i += 2) {
+            form.append('&').append(fields[i]).append('=').append(encode(fields[i + 1]));
+        }
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form.toString()))
+                .build();
+    }
+
+    private static String csrf(String html) {
+        Matcher matcher = CSRF_TOKEN.matcher(html);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+
+    private static String location(HttpResponse<?> response) {
+        return response.headers().firstValue("Location").orElse("");
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
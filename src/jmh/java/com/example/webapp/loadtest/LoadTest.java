@@ -0,0 +1,99 @@
+package com.example.webapp.loadtest;
+
+import com.example.webapp.config.VirtualThreadPinningMonitor;
+import com.example.webapp.dto.PinnedSiteStatsDTO;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Boots the application, loads a synthetic data set and drives concurrent student sessions
+ * against it. Settings are read from loadtest.* system properties (see the benchmark profile
+ * in pom.xml); per-step results are printed and written as JSON to loadtest.result-file.
+ * With loadtest.threads=platform,virtual the application is started once per thread mode
+ * on an identical data set, so the two runs can be compared side by side.
+ */
+public final class LoadTest {
+
+    // requested is the loadtest.* scale, dataset the rows actually in the database at the start of the run
+    record Report(String threads, LoadDriver.Scenario scenario, SyntheticDataGenerator.Scale requested,
+                  SyntheticDataGenerator.Scale dataset, int virtualUsers, String duration, List<LoadDriver.StepResult> steps,
+                  List<PinnedSiteStatsDTO> pinnedSites) {
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        SyntheticDataGenerator.Scale scale = new SyntheticDataGenerator.Scale(
+                Integer.getInteger("loadtest.departments", 40),
+                Integer.getInteger("loadtest.teachers", 1_000),
+                Integer.getInteger("loadtest.courses", 5_000),
+                Integer.getInteger("loadtest.students", 200_000),
+                Long.getLong("loadtest.enrollments", 2_000_000L));
+        LoadDriver.Scenario scenario = LoadDriver.Scenario.valueOf(
+                System.getProperty("loadtest.scenario", "session").toUpperCase(Locale.ROOT).replace('-', '_'));
+        String[] threadModes = System.getProperty("loadtest.threads", "platform").split(",");
+        int virtualUsers = Integer.getInteger("loadtest.users", 50);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT30S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT2M"));
+        File resultFile = new File(System.getProperty("loadtest.result-file", "target/load-test-result.json"));
+
+        List<Report> reports = new ArrayList<>();
+        for (String threads : threadModes) {
+            boolean virtual = switch (threads.trim()) {
+                case "platform" -> false;
+                case "virtual" -> true;
+                default -> throw new IllegalArgumentException("loadtest.threads must list platform and/or virtual: " + threads);
+            };
+            if (virtual && Runtime.version().feature() < 21) {
+                throw new IllegalStateException("Virtual threads need Java 21+, this JVM is " + Runtime.version());
+            }
+            System.setProperty("spring.threads.virtual.enabled", String.valueOf(virtual));
+
+            try (ConfigurableApplicationContext context =
+                         InProcessApplication.start(System.getProperty("loadtest.profile", "test").split(","))) {
+                SyntheticDataset dataset = new SyntheticDataGenerator(context, Long.getLong("loadtest.seed", 42L))
+                        .generate(scale);
+
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port), dataset, scenario, virtualUsers);
+                List<LoadDriver.StepResult> results = driver.run(warmup, duration);
+                List<PinnedSiteStatsDTO> pinned = context.getBean(VirtualThreadPinningMonitor.class).getStats();
+                reports.add(new Report(threads.trim(), scenario, scale, dataset.getScale(), virtualUsers, duration.toString(), results, pinned));
+            }
+        }
+
+        reports.forEach(LoadTest::print);
+        new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT).writeValue(resultFile, reports);
+        System.out.println("Results written to " + resultFile.getAbsolutePath());
+    }
+
+    private static void print(Report report) {
+        SyntheticDataGenerator.Scale scale = report.dataset();
+        System.out.printf("%nLoad test (%s threads, %s): %d departments, %d teachers, %d students, %d courses, "
+                        + "%d enrollments; %d virtual users for %s%n",
+                report.threads(), report.scenario(), scale.departments(), scale.teachers(), scale.students(),
+                scale.courses(), scale.enrollments(),
+                report.virtualUsers(), report.duration());
+        System.out.printf("%-18s %9s %8s %9s %9s %9s %9s %9s%n",
+                "step", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (LoadDriver.StepResult result : report.steps()) {
+            System.out.printf("%-18s %9d %8d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    result.step(), result.requests(), result.errors(), result.throughput(),
+                    result.p50Millis(), result.p95Millis(), result.p99Millis(), result.maxMillis());
+        }
+        for (PinnedSiteStatsDTO site : report.pinnedSites()) {
+            System.out.printf("pinned %6d x %9.1f ms total  %-15s %s%n",
+                    site.getEvents(), site.getTotalMs(), site.getCategory(), site.getSite());
+        }
+    }
+}
@@ -0,0 +1,340 @@
+package com.example.webapp.loadtest;
+
+import com.example.webapp.entity.IdAllocation;
+import com.example.webapp.service.CacheAdminService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads departments, teachers, courses, students and enrollments with JDBC batches,
+ * bypassing JPA. Each student's course picks come from a per-student seed: a first pass
+ * counts enrollments per course (to size capacities and seat counters), a second pass
+ * streams the join rows. Every account shares one password hash, encoded once with the
+ * application's encoder, so logins cost the same as for real users.
+ */
+public class SyntheticDataGenerator {
+
+    public record Scale(int departments, int teachers, int courses, int students, long enrollments) {
+
+        public Scale {
+            if (departments < 1 || teachers < 1 || courses < 1 || students < 1 || enrollments < 0) {
+                throw new IllegalArgumentException("Invalid data set scale: " + departments + " departments, "
+                        + teachers + " teachers, " + courses + " courses, " + students + " students, "
+                        + enrollments + " enrollments");
+            }
+        }
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final int ROWS_PER_TRANSACTION = 10_000;
+
+    // Share of a student's courses taken in their own department
+    private static final double HOME_DEPARTMENT_SHARE = 0.7;
+
+    private static final String[] DEPARTMENTS = {
+            "Computer Science", "Mathematics", "Physics", "Chemistry", "Biology", "Economics",
+            "Electrical Engineering", "Mechanical Engineering", "Civil Engineering", "Statistics",
+            "Philosophy", "History", "Linguistics", "Psychology", "Sociology", "Political Science",
+            "Business Administration", "Architecture", "Environmental Science", "Music"
+    };
+    private static final String[] TOPICS = {
+            "Algorithms", "Linear Algebra", "Thermodynamics", "Organic Chemistry", "Genetics",
+            "Microeconomics", "Signal Processing", "Fluid Mechanics", "Structural Analysis",
+            "Probability", "Ethics", "Modern History", "Syntax", "Cognition", "Research Methods",
+            "Public Policy", "Accounting", "Urban Design", "Ecology", "Composition"
+    };
+    private static final String[] LEVELS = {
+            "Introduction to", "Foundations of", "Topics in", "Advanced", "Seminar in"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Aisha", "Ben", "Chen", "Diego", "Elena", "Farid", "Grace", "Hiro", "Ines", "Jonas",
+            "Kavya", "Liam", "Maya", "Nikolai", "Olu", "Priya", "Quinn", "Rosa", "Sami", "Tara"
+    };
+    private static final String[] LAST_NAMES = {
+            "Ahmed", "Becker", "Costa", "Dubois", "Evans", "Fischer", "Garcia", "Hassan", "Ito",
+            "Jensen", "Kim", "Larsen", "Mendes", "Nowak", "Okafor", "Patel", "Rossi", "Silva",
+            "Tanaka", "Walker"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final CacheAdminService cacheAdminService;
+    private final long seed;
+
+    public SyntheticDataGenerator(ApplicationContext context, long seed) {
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.cacheAdminService = context.getBean(CacheAdminService.class);
+        this.seed = seed;
+    }
+
+    /**
+     * Loads a data set of the given scale, or returns the one already in the database
+     * (e.g. a PostgreSQL instance seeded by an earlier run). An existing set of another
+     * scale is an error rather than silently measured in place of the requested one.
+     */
+    public SyntheticDataset generate(Scale scale) {
+        SyntheticDataset existing = findExisting();
+        if (existing != null) {
+            checkMatches(existing.getScale(), scale);
+            log.info("Reusing synthetic data set: {}", existing.getScale());
+            return existing;
+        }
+
+        long started = System.nanoTime();
+        Timestamp now = Timestamp.from(Instant.now());
+        String passwordHash = passwordEncoder.encode(SyntheticDataset.PASSWORD);
+        int[] enrolledPerCourse = countEnrollments(scale);
+
+        long firstDeptId = reserveIds("departments_seq", scale.departments());
+        try (BatchInserter depts = new BatchInserter("insert into departments (id, name, description) values (?, ?, ?)")) {
+            for (int d = 0; d < scale.departments(); d++) {
+                String name = DEPARTMENTS[d % DEPARTMENTS.length] + " " + (d / DEPARTMENTS.length + 1);
+                depts.add(firstDeptId + d, name, "Synthetic department " + d);
+            }
+        }
+
+        long firstTeacherUserId = reserveIds("users_seq", scale.teachers());
+        long firstTeacherId = reserveIds("teachers_seq", scale.teachers());
+        // Accounts first: the teacher and student rows reference them
+        try (BatchInserter users = new BatchInserter("insert into users (id, username, email, password, role, enabled, created_at) "
+                + "values (?, ?, ?, ?, 'TEACHER', true, ?)")) {
+            for (int t = 0; t < scale.teachers(); t++) {
+                String username = SyntheticDataset.teacherUsername(t);
+                users.add(firstTeacherUserId + t, username, username + "@example.edu", passwordHash, now);
+            }
+        }
+        try (BatchInserter teachers = new BatchInserter("insert into teachers (id, name, email, phone, user_id, dept_id) "
+                + "values (?, ?, ?, ?, ?, ?)")) {
+            for (int t = 0; t < scale.teachers(); t++) {
+                teachers.add(firstTeacherId + t, personName(-1 - t), SyntheticDataset.teacherUsername(t) + "@example.edu",
+                        String.format("555-%07d", t), firstTeacherUserId + t, firstDeptId + t % scale.departments());
+            }
+        }
+        log.info("Loaded {} departments and {} teachers", scale.departments(), scale.teachers());
+
+        long firstCourseId = reserveIds("courses_seq", scale.courses());
+        try (BatchInserter courses = new BatchInserter("insert into courses "
+                + "(id, name, code, description, credits, capacity, seats_taken, dept_id, created_by) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int c = 0; c < scale.courses(); c++) {
+                SplittableRandom random = new SplittableRandom(seed ^ (0x5DEECE66DL * (c + 1)));
+                int dept = c % scale.departments();
+                String topic = TOPICS[(c / scale.departments()) % TOPICS.length];
+                String name = LEVELS[random.nextInt(LEVELS.length)] + " " + topic;
+                String code = DEPARTMENTS[dept % DEPARTMENTS.length].substring(0, 3).toUpperCase() + "-" + (1000 + c);
+                courses.add(firstCourseId + c, name, code, name + " (" + code + ")", 1 + random.nextInt(4),
+                        capacity(enrolledPerCourse[c], random), enrolledPerCourse[c],
+                        firstDeptId + dept, firstTeacherId + teacherFor(scale, c));
+            }
+        }
+        log.info("Loaded {} courses", scale.courses());
+
+        long firstStudentUserId = reserveIds("users_seq", scale.students());
+        long firstStudentId = reserveIds("students_seq", scale.students());
+        try (BatchInserter users = new BatchInserter("insert into users (id, username, email, password, role, enabled, created_at) "
+                + "values (?, ?, ?, ?, 'STUDENT', true, ?)")) {
+            for (int s = 0; s < scale.students(); s++) {
+                String username = SyntheticDataset.studentUsername(s);
+                users.add(firstStudentUserId + s, username, username + "@example.edu", passwordHash, now);
+            }
+        }
+        try (BatchInserter students = new BatchInserter("insert into students "
+                + "(id, name, roll, email, current_semester, academic_year, user_id, dept_id) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int s = 0; s < scale.students(); s++) {
+                int semester = 1 + s % 8;
+                int intakeYear = 2026 - (semester - 1) / 2;
+                students.add(firstStudentId + s, personName(s), SyntheticDataset.roll(s),
+                        SyntheticDataset.studentUsername(s) + "@example.edu", semester,
+                        intakeYear + "-" + (intakeYear + 1), firstStudentUserId + s, firstDeptId + s % scale.departments());
+            }
+        }
+        log.info("Loaded {} students", scale.students());
+
+        long enrollments = 0;
+        try (BatchInserter rows = new BatchInserter("insert into student_course (student_id, course_id) values (?, ?)")) {
+            for (int s = 0; s < scale.students(); s++) {
+                for (int c : pickCourses(scale, s)) {
+                    rows.add(firstStudentId + s, firstCourseId + c);
+                    enrollments++;
+                }
+            }
+        }
+
+        // Rows written through JDBC are invisible to Hibernate's caches
+        cacheAdminService.evictAll();
+        log.info("Loaded {} enrollments; synthetic data set ready in {} s",
+                enrollments, (System.nanoTime() - started) / 1_000_000_000);
+        return new SyntheticDataset(new Scale(scale.departments(), scale.teachers(), scale.courses(), scale.students(),
+                enrollments), firstStudentId, firstCourseId);
+    }
+
+    private SyntheticDataset findExisting() {
+        Long firstStudentId = jdbcTemplate.queryForObject(
+                "select min(s.id) from students s join users u on u.id = s.user_id where u.username = ?",
+                Long.class, SyntheticDataset.studentUsername(0));
+        if (firstStudentId == null) {
+            return null;
+        }
+        int departments = count("select count(*) from departments where description like 'Synthetic department %'");
+        int teachers = count("select count(*) from users where username like 'load-teacher-%'");
+        int students = count("select count(*) from users where username like 'load-student-%'");
+        Long enrollments = jdbcTemplate.queryForObject(
+                "select count(*) from student_course sc join students s on s.id = sc.student_id "
+                        + "join users u on u.id = s.user_id where u.username like 'load-student-%'", Long.class);
+        return jdbcTemplate.queryForObject(
+                "select min(c.id), count(*) from courses c join teachers t on t.id = c.created_by "
+                        + "join users u on u.id = t.user_id where u.username like 'load-teacher-%'",
+                (rs, rowNum) -> new SyntheticDataset(new Scale(departments, teachers, rs.getInt(2), students, enrollments),
+                        firstStudentId, rs.getLong(1)));
+    }
+
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count != null ? count : 0;
+    }
+
+    // Load-test enrollments stay in the database, so a reused set may hold more than were generated
+    private void checkMatches(Scale existing, Scale requested) {
+        long generated = 0;
+        for (int s = 0; s < requested.students(); s++) {
+            generated += coursesPerStudent(requested, s);
+        }
+        if (existing.departments() != requested.departments() || existing.teachers() != requested.teachers()
+                || existing.courses() != requested.courses() || existing.students() != requested.students()
+                || existing.enrollments() < generated) {
+            throw new IllegalStateException("The database already holds a synthetic data set of another scale: found "
+                    + existing + ", requested " + requested + " (" + generated + " enrollments when generated). "
+                    + "Use an empty database or the loadtest.* settings of the existing set");
+        }
+    }
+
+    // Takes ids above the sequence's current block and restarts the sequence past them,
+    // so Hibernate's pooled optimizer never hands them out again
+    private long reserveIds(String sequence, long count) {
+        Long current = jdbcTemplate.queryForObject("select nextval('" + sequence + "')", Long.class);
+        long first = current + 1;
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + (first + count + IdAllocation.SIZE));
+        return first;
+    }
+
+    private int[] countEnrollments(Scale scale) {
+        int[] counts = new int[scale.courses()];
+        for (int s = 0; s < scale.students(); s++) {
+            for (int c : pickCourses(scale, s)) {
+                counts[c]++;
+            }
+        }
+        return counts;
+    }
+
+    // Distinct course indexes for one student, the same for both passes
+    private int[] pickCourses(Scale scale, int student) {
+        int count = coursesPerStudent(scale, student);
+        int dept = student % scale.departments();
+        int homeCourses = dept < scale.courses() ? (scale.courses() - dept - 1) / scale.departments() + 1 : 0;
+
+        SplittableRandom random = new SplittableRandom(seed * 31 + student);
+        int[] picks = new int[count];
+        int picked = 0;
+        while (picked < count) {
+            // Squaring skews towards low indexes: a few popular courses and a long tail
+            double u = random.nextDouble();
+            int course = homeCourses > 0 && random.nextDouble() < HOME_DEPARTMENT_SHARE
+                    ? dept + (int) (homeCourses * u * u) * scale.departments()
+                    : (int) (scale.courses() * u * u);
+            if (!contains(picks, picked, course)) {
+                picks[picked++] = course;
+            }
+        }
+        return picks;
+    }
+
+    // Enrollments spread evenly over the students, capped by the number of courses
+    private static int coursesPerStudent(Scale scale, int student) {
+        long perStudent = scale.enrollments() / scale.students()
+                + (student < scale.enrollments() % scale.students() ? 1 : 0);
+        return (int) Math.min(perStudent, scale.courses());
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // One course in ten is exactly full, the rest keep some headroom for the load test's enrollments
+    private static int capacity(int enrolled, SplittableRandom random) {
+        if (enrolled == 0) {
+            return 20 + random.nextInt(100);
+        }
+        if (random.nextInt(10) == 0) {
+            return enrolled;
+        }
+        return enrolled + 5 + random.nextInt(Math.max(5, enrolled / 5));
+    }
+
+    // Prefers a teacher of the course's own department
+    private static int teacherFor(Scale scale, int course) {
+        int dept = course % scale.departments();
+        int teachersInDept = dept < scale.teachers() ? (scale.teachers() - dept - 1) / scale.departments() + 1 : 0;
+        if (teachersInDept == 0) {
+            return course % scale.teachers();
+        }
+        return dept + (course / scale.departments() % teachersInDept) * scale.departments();
+    }
+
+    private String personName(int index) {
+        SplittableRandom random = new SplittableRandom(seed + 7919L * index);
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+    }
+
+    // Collects rows and writes them as one JDBC batch per transaction
+    private final class BatchInserter implements AutoCloseable {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(ROWS_PER_TRANSACTION);
+
+        BatchInserter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == ROWS_PER_TRANSACTION) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+            rows.clear();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
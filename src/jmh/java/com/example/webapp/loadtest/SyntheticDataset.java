@@ -0,0 +1,53 @@
+package com.example.webapp.loadtest;
+
+/**
+ * Handle on the rows written by {@link SyntheticDataGenerator}. Students and courses get
+ * consecutive ids, so the n-th student or course is addressed without holding ids in memory.
+ * The scale holds the row counts actually in the database.
+ */
+public class SyntheticDataset {
+
+    public static final String PASSWORD = "loadtest";
+
+    private final SyntheticDataGenerator.Scale scale;
+    private final long firstStudentId;
+    private final long firstCourseId;
+
+    public SyntheticDataset(SyntheticDataGenerator.Scale scale, long firstStudentId, long firstCourseId) {
+        this.scale = scale;
+        this.firstStudentId = firstStudentId;
+        this.firstCourseId = firstCourseId;
+    }
+
+    public static String studentUsername(int index) {
+        return "load-student-" + index;
+    }
+
+    public static String teacherUsername(int index) {
+        return "load-teacher-" + index;
+    }
+
+    public static String roll(int index) {
+        return String.format("LS%07d", index);
+    }
+
+    public SyntheticDataGenerator.Scale getScale() {
+        return scale;
+    }
+
+    public int getStudents() {
+        return scale.students();
+    }
+
+    public int getCourses() {
+        return scale.courses();
+    }
+
+    public long studentId(int index) {
+        return firstStudentId + index;
+    }
+
+    public long courseId(int index) {
+        return firstCourseId + index;
+    }
+}
@@ -1,14 +1,54 @@
 package com.example.webapp.config;
 
+import org.hibernate.cfg.AvailableSettings;
 import org.modelmapper.ModelMapper;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
     @Bean
     public ModelMapper modelMapper() {
         return new ModelMapper();
     }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    // Background worker for CSV student imports; a small pool keeps bulk loads from starving request threads
+    @Bean
+    public TaskExecutor importExecutor(Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("student-import-");
+        // With spring.threads.virtual.enabled the pool limits still apply, only the threads are virtual
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.initialize();
+        return executor;
+    }
+
+    // Re-hashes outdated passwords after login; overflow is dropped because the next login retries
+    @Bean
+    public TaskExecutor passwordUpgradeExecutor(Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("password-upgrade-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,111 @@
+package com.example.webapp.config;
+
+import com.example.webapp.dto.PasswordHashingStatsDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs every encode and match on a small fixed pool, so a signup or login burst can keep at
+ * most {@code threads} cores busy hashing. Callers beyond the queue capacity are rejected at once
+ * with {@link PasswordHashingBusyException} rather than piling up on request threads.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor workers;
+    private final Timer queueWait;
+    private final Timer hashTime;
+    private final Counter rejected;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry registry) {
+        this.delegate = delegate;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.queueWait = Timer.builder("password.hash.queue.wait")
+                .description("Time a password operation waited for a hashing worker")
+                .register(registry);
+        this.hashTime = Timer.builder("password.hash.duration")
+                .description("Time spent encoding or matching a password")
+                .register(registry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("Password operations refused because the hashing queue was full")
+                .register(registry);
+        Gauge.builder("password.hash.queue.depth", workers, pool -> pool.getQueue().size())
+                .description("Password operations waiting for a hashing worker")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashingStatsDTO getStats() {
+        return new PasswordHashingStatsDTO(hashTime.count(), (long) rejected.count(), workers.getQueue().size(),
+                queueWait.mean(TimeUnit.MILLISECONDS), queueWait.max(TimeUnit.MILLISECONDS),
+                hashTime.mean(TimeUnit.MILLISECONDS), hashTime.max(TimeUnit.MILLISECONDS));
+    }
+
+    @Override
+    public void close() {
+        workers.shutdown();
+    }
+
+    private <T> T run(Supplier<T> work) {
+        long queuedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = workers.submit(() -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return hashTime.record(work);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AuthenticationServiceException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AuthenticationServiceException("Password hashing failed", e.getCause());
+        }
+    }
+}
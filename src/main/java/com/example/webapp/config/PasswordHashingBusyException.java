@@ -0,0 +1,12 @@
+package com.example.webapp.config;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+// Thrown instead of queueing when every hashing worker is busy and the wait queue is full.
+// An AuthenticationException so a rejected login fails like any other login instead of a 500
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException() {
+        super("Too many password operations in progress, please try again in a moment");
+    }
+}
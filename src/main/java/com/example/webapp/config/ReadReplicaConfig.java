@@ -0,0 +1,76 @@
+package com.example.webapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.transaction.autoconfigure.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits traffic between the primary and a read replica once app.datasource.replica.url is set.
+ * Without it Spring Boot's single pool is used unchanged.
+ * <p>
+ * The application DataSource is a {@link ReplicaRoutingDataSource}: read-only transactions
+ * ({@code @Transactional(readOnly = true)}) go to the replica, everything else, including
+ * Flyway, to the primary. It sits behind a {@link LazyConnectionDataSourceProxy} because
+ * Hibernate touches the connection (auto-commit off) before the transaction's read-only flag
+ * is published; the proxy defers the real fetch to the first statement. The transaction
+ * manager keeps replica transactions out of the second-level and query caches.
+ */
+@Configuration
+@ConditionalOnProperty("app.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    // Credentials default to the primary's; the pool is read-only on the JDBC level as well
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${app.datasource.replica.url}") String url,
+                                              @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String password,
+                                              @Value("${app.datasource.replica.maximum-pool-size:10}") int maximumPoolSize) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(
+                primaryDataSource, replicaDataSource, readYourWritesTracker, meterRegistry));
+    }
+
+    // Replaces Spring Boot's JpaTransactionManager, applying the same customizers
+    @Bean
+    public JpaTransactionManager transactionManager(ReadYourWritesTracker readYourWritesTracker,
+                                                    ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new ReplicaCacheModeTransactionManager(readYourWritesTracker);
+        customizers.ifAvailable(available -> available.customize(transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.webapp.config;
+
+import com.example.webapp.service.AuthenticatedUser;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Runs after the security chain, which has resolved the principal by then
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
+@ConditionalOnProperty("app.datasource.replica.url")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesFilter(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean recentWriter = authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && tracker.hasRecentWrite(user.getStudentId());
+
+        tracker.setPrimaryRequired(recentWriter);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            tracker.setPrimaryRequired(false);
+        }
+    }
+}
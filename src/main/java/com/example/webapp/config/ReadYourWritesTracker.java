@@ -0,0 +1,59 @@
+package com.example.webapp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Remembers students whose enrollments changed within the last few seconds. While a request
+ * from such a student is running, read-only transactions go to the primary instead of a
+ * replica that may not have replayed the change yet.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final Cache<Long, Boolean> recentWriters;
+    private final ThreadLocal<Boolean> primaryRequired = new ThreadLocal<>();
+
+    public ReadYourWritesTracker(@Value("${app.datasource.replica.read-your-writes-window:PT5S}") Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    // The window starts at commit, when the change becomes visible on the primary
+    public void recordWrite(Long studentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(studentId, Boolean.TRUE);
+                }
+            });
+        } else {
+            recentWriters.put(studentId, Boolean.TRUE);
+        }
+    }
+
+    public boolean hasRecentWrite(Long studentId) {
+        return studentId != null && recentWriters.getIfPresent(studentId) != null;
+    }
+
+    public boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(primaryRequired.get());
+    }
+
+    public void setPrimaryRequired(boolean required) {
+        if (required) {
+            primaryRequired.set(Boolean.TRUE);
+        } else {
+            primaryRequired.remove();
+        }
+    }
+}
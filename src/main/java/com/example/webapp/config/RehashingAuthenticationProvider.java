@@ -0,0 +1,34 @@
+package com.example.webapp.config;
+
+import com.example.webapp.service.PasswordUpgradeService;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+/**
+ * Dao provider that hands outdated hashes to {@link PasswordUpgradeService} after a successful login.
+ * Unlike the built-in UserDetailsPasswordService hook, the new hash is computed in the background,
+ * so the login itself never pays for a second hash.
+ */
+public class RehashingAuthenticationProvider extends DaoAuthenticationProvider {
+
+    private final PasswordUpgradeService passwordUpgradeService;
+
+    public RehashingAuthenticationProvider(UserDetailsService userDetailsService,
+                                           PasswordUpgradeService passwordUpgradeService) {
+        super(userDetailsService);
+        this.passwordUpgradeService = passwordUpgradeService;
+    }
+
+    @Override
+    protected Authentication createSuccessAuthentication(Object principal, Authentication authentication,
+                                                         UserDetails user) {
+        // Credentials are still present here; ProviderManager erases them after this returns
+        if (getPasswordEncoder().upgradeEncoding(user.getPassword())) {
+            passwordUpgradeService.upgradeLater(user.getUsername(),
+                    authentication.getCredentials().toString(), user.getPassword());
+        }
+        return super.createSuccessAuthentication(principal, authentication, user);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.webapp.config;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps transactions that {@link ReplicaRoutingDataSource} sends to the replica away from the
+ * second-level and query caches. The replica may lag behind the primary, and whatever such a
+ * transaction put there would be served to every later request, including the ones that
+ * read-your-writes pins to the primary.
+ * <p>
+ * Reads bypass the caches as well: with Hibernate's GET mode a query cache miss still stores
+ * the result. The decision mirrors the router's and is taken at transaction begin, because
+ * Hibernate fixes a query's cache mode before the lazily fetched connection tells which pool
+ * it came from.
+ */
+public class ReplicaCacheModeTransactionManager extends JpaTransactionManager {
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReplicaCacheModeTransactionManager(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        super.doBegin(transaction, definition);
+        if (definition.isReadOnly() && !tracker.isPrimaryRequired()) {
+            setCacheModes(currentEntityManager(), CacheRetrieveMode.BYPASS, CacheStoreMode.BYPASS);
+        }
+    }
+
+    // The EntityManager outlives the transaction under open-in-view, so later work must not inherit the bypass
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        EntityManager entityManager = currentEntityManager();
+        if (entityManager != null && entityManager.isOpen()) {
+            setCacheModes(entityManager, CacheRetrieveMode.USE, CacheStoreMode.USE);
+        }
+        super.doCleanupAfterCompletion(transaction);
+    }
+
+    // As properties rather than through setCacheStoreMode, which find() does not see
+    private static void setCacheModes(EntityManager entityManager, CacheRetrieveMode retrieve, CacheStoreMode store) {
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, retrieve);
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, store);
+    }
+
+    private EntityManager currentEntityManager() {
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager
+                .getResource(obtainEntityManagerFactory());
+        return holder != null ? holder.getEntityManager() : null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.webapp.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Hands read-only transactions a replica connection and everything else a primary one.
+ * The connection is fetched at the transaction's first statement, by which time the
+ * transaction manager has published the read-only flag. Requests that have to see the user's
+ * own recent writes (see {@link ReadYourWritesFilter}) stay on the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private final ReadYourWritesTracker tracker;
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWritesTracker tracker,
+                                    MeterRegistry meterRegistry) {
+        this.tracker = tracker;
+        this.primaryConnections = connectionCounter(meterRegistry, Target.PRIMARY);
+        this.replicaConnections = connectionCounter(meterRegistry, Target.REPLICA);
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !tracker.isPrimaryRequired()) {
+            replicaConnections.increment();
+            return Target.REPLICA;
+        }
+        primaryConnections.increment();
+        return Target.PRIMARY;
+    }
+
+    private static Counter connectionCounter(MeterRegistry meterRegistry, Target target) {
+        return Counter.builder("app.datasource.connections")
+                .description("Connections handed out by the replica router, by pool")
+                .tag("target", target.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,12 @@
 package com.example.webapp.config;
 
 import com.example.webapp.service.CustomUserDetailsService;
+import com.example.webapp.service.PasswordUpgradeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -10,9 +15,15 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
@@ -21,9 +32,45 @@ public class SecurityConfig {
     @Autowired
     private CustomUserDetailsService userDetailsService;
 
+    private static final Logger log = LoggerFactory.getLogger(SecurityConfig.class);
+
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+
+    // Hashes are stored as {id}hash, so the algorithm (and, for BCrypt, the cost) travels with each one.
+    // Hashing runs on its own bounded pool; request threads only wait for the result.
+    // BCrypt is CPU-bound, so the pool keeps platform threads even when virtual threads are enabled
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(@Value("${app.security.password-hash.algorithm:bcrypt}") String algorithm,
+                                                  @Value("${app.security.password-hash.threads:0}") int threads,
+                                                  @Value("${app.security.password-hash.queue-capacity:32}") int queueCapacity,
+                                                  @Value("${app.security.password-hash.strength:0}") int strength,
+                                                  @Value("${app.security.password-hash.target-latency:PT0.25S}") Duration targetLatency,
+                                                  MeterRegistry meterRegistry) {
+        int workers = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        int cost = strength > 0 ? strength : calibrateStrength(targetLatency);
+        log.info("Password hashing: {} (BCrypt strength {}), {} worker(s), queue capacity {}",
+                algorithm, cost, workers, queueCapacity);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", new BCryptPasswordEncoder(cost));
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        // Hashes written before ids were recorded are plain BCrypt; any cost is accepted for matching
+        delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+
+        return new BoundedPasswordEncoder(delegating, workers, queueCapacity, meterRegistry);
+    }
+
+    // Picks the BCrypt cost whose hash time on this machine is closest to the target; each step doubles the work
+    static int calibrateStrength(Duration targetLatency) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH);
+        probe.encode("calibration");
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        double measuredNanos = Math.max(1, System.nanoTime() - start);
+        int steps = (int) Math.round(Math.log(targetLatency.toNanos() / measuredNanos) / Math.log(2));
+        return Math.max(MIN_BCRYPT_STRENGTH, Math.min(MAX_BCRYPT_STRENGTH, MIN_BCRYPT_STRENGTH + steps));
     }
 
     @Bean
@@ -32,9 +79,10 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/", "/login", "/signup", "/register", "/forgot-password", 
                                "/reset-password", "/css/**", "/js/**", "/images/**").permitAll()
-                .requestMatchers("/admin/**").hasRole("ADMIN")
+                .requestMatchers("/admin/**", "/search").hasRole("ADMIN")
                 .requestMatchers("/profile/**", "/profile").authenticated()
-                .requestMatchers("/courses/enroll/**", "/courses/my-courses").hasAnyRole("STUDENT", "TEACHER", "ADMIN")
+                .requestMatchers("/courses/enroll/**", "/courses/unenroll/**", "/courses/my-courses",
+                                 "/courses/available", "/courses/suggest").hasAnyRole("STUDENT", "TEACHER", "ADMIN")
                 .requestMatchers("/courses/**").hasAnyRole("TEACHER", "ADMIN")
                 .requestMatchers("/students/**").hasAnyRole("ADMIN")
                 .requestMatchers("/teachers/**").hasRole("ADMIN")
@@ -45,7 +93,8 @@ public class SecurityConfig {
                 .loginPage("/login")
                 .loginProcessingUrl("/perform_login")
                 .defaultSuccessUrl("/home", true)
-                .failureUrl("/login?error=true")
+                .failureHandler((request, response, exception) -> response.sendRedirect(request.getContextPath()
+                        + (exception instanceof PasswordHashingBusyException ? "/login?busy=true" : "/login?error=true")))
                 .permitAll()
             )
             .logout(logout -> logout
@@ -63,12 +112,15 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationManager authenticationManager(HttpSecurity http) throws Exception {
+    public AuthenticationManager authenticationManager(HttpSecurity http, PasswordEncoder passwordEncoder,
+                                                       PasswordUpgradeService passwordUpgradeService) throws Exception {
+        RehashingAuthenticationProvider provider =
+            new RehashingAuthenticationProvider(userDetailsService, passwordUpgradeService);
+        provider.setPasswordEncoder(passwordEncoder);
+
         AuthenticationManagerBuilder authenticationManagerBuilder = 
             http.getSharedObject(AuthenticationManagerBuilder.class);
-        authenticationManagerBuilder
-            .userDetailsService(userDetailsService)
-            .passwordEncoder(passwordEncoder());
+        authenticationManagerBuilder.authenticationProvider(provider);
         return authenticationManagerBuilder.build();
     }
 }
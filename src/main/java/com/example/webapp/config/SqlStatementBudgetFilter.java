@@ -0,0 +1,79 @@
+package com.example.webapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Runs ahead of the security chain so the count covers everything a request does
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "X-SQL-Statement-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+
+    private final int budget;
+    private final boolean emitHeader;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementBudgetFilter(@Value("${app.sql.statement-budget:25}") int budget,
+                                    @Value("${app.sql.statement-count-header:false}") boolean emitHeader,
+                                    MeterRegistry meterRegistry) {
+        this.budget = budget;
+        this.emitHeader = emitHeader;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.reset();
+        // The header can only be written before the response commits, so a large streamed
+        // page reports the statements run up to that point
+        HttpServletResponse target = emitHeader ? new OnCommittedResponseWrapper(response) {
+            @Override
+            protected void onResponseCommitted() {
+                setHeader(HEADER, String.valueOf(SqlStatementCounter.count()));
+            }
+        } : response;
+
+        try {
+            chain.doFilter(request, target);
+        } finally {
+            int count = SqlStatementCounter.count();
+            if (emitHeader && !response.isCommitted()) {
+                response.setHeader(HEADER, String.valueOf(count));
+            }
+
+            String route = route(request);
+            DistributionSummary.builder("app.sql.statements")
+                    .description("SQL statements executed per HTTP request")
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .record(count);
+            if (count > budget) {
+                log.warn("{} {} ran {} SQL statements, over the budget of {}", request.getMethod(), route, count, budget);
+            }
+        }
+    }
+
+    private String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNMAPPED";
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.webapp.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, including lazy loads
+ * triggered while a view renders. Unlike Hibernate's Statistics, which are global, the count
+ * is not disturbed by other threads, so tests can assert on it with {@link #reset()} and
+ * {@link #count()} around the code under test.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    public static int count() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.webapp.config;
+
+import com.example.webapp.dto.PinnedSiteStatsDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Streams the JFR jdk.VirtualThreadPinned event while virtual threads are enabled (Java 21+).
+ * A virtual thread that blocks inside a synchronized section or under a native frame cannot
+ * unmount, so it holds its carrier thread for the whole wait. Events are grouped by the first
+ * frame outside the JDK, i.e. where the thread blocked; the sampled stack shows which frame
+ * below it held the monitor.
+ */
+@Component
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    public enum Category {
+        HIBERNATE,
+        CONNECTION_POOL,
+        JDBC_DRIVER,
+        APPLICATION,
+        OTHER
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    static final String OVERFLOW_SITE = "(other sites)";
+
+    private static final int MAX_SITES = 200;
+    private static final int MAX_SAMPLE_FRAMES = 12;
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Environment environment,
+                                       @Value("${app.threads.pinning-monitor.enabled:true}") boolean enabled,
+                                       @Value("${app.threads.pinning-monitor.threshold:PT0.02S}") Duration threshold,
+                                       MeterRegistry meterRegistry) {
+        // Only virtual threads can be pinned; on platform threads there is nothing to watch
+        this.enabled = enabled && Threading.VIRTUAL.isActive(environment);
+        this.threshold = threshold;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("Watching for virtual threads pinned longer than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        if (recording != null) {
+            recording.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Sites with the most pinned time first
+    public List<PinnedSiteStatsDTO> getStats() {
+        return sites.entrySet().stream()
+                .map(entry -> entry.getValue().toDto(entry.getKey()))
+                .sorted(Comparator.comparingDouble(PinnedSiteStatsDTO::getTotalMs).reversed())
+                .toList();
+    }
+
+    private void record(RecordedEvent event) {
+        List<String> frames = event.getStackTrace() == null ? List.of()
+                : event.getStackTrace().getFrames().stream().map(VirtualThreadPinningMonitor::describe).toList();
+        record(frames, event.getDuration());
+    }
+
+    void record(List<String> frames, Duration duration) {
+        String site = frames.stream().filter(frame -> !isJdkFrame(frame)).findFirst()
+                .orElse(frames.isEmpty() ? "(no stack trace)" : frames.get(0));
+        Category category = classify(frames);
+        if (!sites.containsKey(site) && sites.size() >= MAX_SITES) {
+            site = OVERFLOW_SITE;
+        }
+
+        Site stats = sites.computeIfAbsent(site, key -> {
+            log.warn("Virtual thread pinned for {} ms in {} code at {}:\n\t{}", duration.toMillis(), category, key,
+                    String.join("\n\t", frames.subList(0, Math.min(frames.size(), MAX_SAMPLE_FRAMES))));
+            return new Site(category, frames);
+        });
+        stats.record(duration.toNanos());
+
+        Timer.builder("app.threads.pinned")
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("category", category.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .record(duration);
+    }
+
+    // The first library frame below the JDK decides where the pinned wait happened
+    static Category classify(List<String> frames) {
+        for (String frame : frames) {
+            if (isJdkFrame(frame)) {
+                continue;
+            }
+            if (frame.startsWith("org.hibernate.")) {
+                return Category.HIBERNATE;
+            }
+            if (frame.startsWith("com.zaxxer.hikari.")) {
+                return Category.CONNECTION_POOL;
+            }
+            if (frame.startsWith("org.h2.") || frame.startsWith("org.postgresql.")) {
+                return Category.JDBC_DRIVER;
+            }
+            if (frame.startsWith("com.example.webapp.")) {
+                return Category.APPLICATION;
+            }
+            return Category.OTHER;
+        }
+        return Category.OTHER;
+    }
+
+    private static boolean isJdkFrame(String frame) {
+        return frame.startsWith("java.") || frame.startsWith("javax.") || frame.startsWith("jdk.")
+                || frame.startsWith("sun.");
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    private static final class Site {
+
+        private final Category category;
+        private final List<String> stackTrace;
+        private final LongAdder events = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        Site(Category category, List<String> frames) {
+            this.category = category;
+            this.stackTrace = List.copyOf(frames.subList(0, Math.min(frames.size(), MAX_SAMPLE_FRAMES)));
+        }
+
+        void record(long nanos) {
+            events.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        PinnedSiteStatsDTO toDto(String site) {
+            return new PinnedSiteStatsDTO(site, category.name(), events.sum(),
+                    totalNanos.sum() / 1e6, maxNanos.get() / 1e6, stackTrace);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.webapp.controller;
+
+import com.example.webapp.config.BoundedPasswordEncoder;
+import com.example.webapp.config.VirtualThreadPinningMonitor;
+import com.example.webapp.dto.CacheRegionStatsDTO;
+import com.example.webapp.dto.PasswordHashingStatsDTO;
+import com.example.webapp.dto.PinnedSiteStatsDTO;
+import com.example.webapp.service.CacheAdminService;
+import com.example.webapp.service.EnrollmentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Controller
+@RequestMapping("/admin")
+public class AdminController {
+
+    @Autowired
+    private CacheAdminService cacheAdminService;
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @GetMapping("/cache")
+    @ResponseBody
+    public List<CacheRegionStatsDTO> getCacheStatistics() {
+        return cacheAdminService.getRegionStatistics();
+    }
+
+    @PostMapping("/cache/evict")
+    @ResponseBody
+    public ResponseEntity<Void> evictCaches() {
+        cacheAdminService.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+
+    // Returns the number of courses recounted
+    @PostMapping("/seats/reconcile")
+    @ResponseBody
+    public int reconcileSeatCounts() {
+        return enrollmentService.reconcileSeatCounts();
+    }
+
+    @GetMapping("/password-hashing")
+    @ResponseBody
+    public PasswordHashingStatsDTO getPasswordHashingStatistics() {
+        return passwordEncoder.getStats();
+    }
+
+    // Empty unless virtual threads are enabled on Java 21+
+    @GetMapping("/virtual-threads/pinning")
+    @ResponseBody
+    public List<PinnedSiteStatsDTO> getVirtualThreadPinning() {
+        return pinningMonitor.getStats();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.config.PasswordHashingBusyException;
 import com.example.webapp.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
@@ -21,10 +22,14 @@ public class AuthController {
     @GetMapping("/login")
     public String login(@RequestParam(value = "error", required = false) String error,
                        @RequestParam(value = "logout", required = false) String logout,
+                       @RequestParam(value = "busy", required = false) String busy,
                        Model model) {
         if (error != null) {
             model.addAttribute("error", "Invalid username or password!");
         }
+        if (busy != null) {
+            model.addAttribute("error", "The server is busy signing other users in. Please try again in a moment.");
+        }
         if (logout != null) {
             model.addAttribute("message", "You have been logged out successfully.");
         }
@@ -83,6 +88,9 @@ public class AuthController {
 
             redirectAttributes.addFlashAttribute("success", "Registration successful! Please login.");
             return "redirect:/login";
+        } catch (PasswordHashingBusyException e) {
+            redirectAttributes.addFlashAttribute("error", "Too many signups right now. Please try again in a moment.");
+            return "redirect:/signup";
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Registration failed: " + e.getMessage());
             return "redirect:/signup";
@@ -135,7 +143,15 @@ public class AuthController {
             return "redirect:/reset-password?token=" + token;
         }
 
-        if (userService.resetPassword(token, password)) {
+        boolean reset;
+        try {
+            reset = userService.resetPassword(token, password);
+        } catch (PasswordHashingBusyException e) {
+            redirectAttributes.addFlashAttribute("error", "Too many password resets right now. Please try again in a moment.");
+            return "redirect:/reset-password?token=" + token;
+        }
+
+        if (reset) {
             redirectAttributes.addFlashAttribute("success", 
                 "Password has been reset successfully. Please login.");
             return "redirect:/login";
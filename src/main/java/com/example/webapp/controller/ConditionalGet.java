@@ -0,0 +1,37 @@
+package com.example.webapp.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// Strong-ETag handling for the read APIs: the body is only built when the client's copy is stale
+final class ConditionalGet {
+
+    // Clients may keep the response but must revalidate; replaces Spring Security's no-store default
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> ifNoneMatch(WebRequest request, String etag, Supplier<T> body) {
+        // checkNotModified has already set the 304 status and the ETag header when it returns true
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body.get());
+    }
+
+    // Single resources: 404 if the row disappeared after its ETag was read
+    static <T> ResponseEntity<T> ifNoneMatchSingle(WebRequest request, String etag, Supplier<Optional<T>> body) {
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+        return body.get()
+                .map(value -> ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(value))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.dto.CourseSuggestionDTO;
+import com.example.webapp.dto.CourseSummaryDTO;
 import com.example.webapp.entity.Course;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Teacher;
 import com.example.webapp.service.CourseService;
+import com.example.webapp.service.CourseSuggestionIndex;
 import com.example.webapp.service.DeptService;
 import com.example.webapp.service.TeacherService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -29,7 +33,7 @@ public class CourseController {
 
     @GetMapping
     public String listCourses(Model model) {
-        List<Course> courses = courseService.getAllCourses();
+        List<CourseSummaryDTO> courses = courseService.getCourseCatalog();
         model.addAttribute("courses", courses);
         return "courses";
     }
@@ -76,18 +80,25 @@ public class CourseController {
         return "redirect:/courses";
     }
 
-    // REST API endpoints
+    // REST API endpoints; polled by portal integrations, so they answer If-None-Match with 304
     @GetMapping("/api")
     @ResponseBody
-    public List<Course> getAllCourses() {
-        return courseService.getAllCourses();
+    public ResponseEntity<List<CourseSummaryDTO>> getAllCourses(WebRequest request) {
+        return ConditionalGet.ifNoneMatch(request, courseService.getCatalogEtag(), courseService::getCourseCatalog);
     }
 
     @GetMapping("/api/{id}")
     @ResponseBody
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
-        return courseService.getCourseById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<CourseSummaryDTO> getCourseById(@PathVariable Long id, WebRequest request) {
+        return courseService.getCourseEtag(id)
+                .map(etag -> ConditionalGet.ifNoneMatchSingle(request, etag, () -> courseService.getCourseSummary(id)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/suggest")
+    @ResponseBody
+    public List<CourseSuggestionDTO> suggestCourses(@RequestParam("q") String prefix,
+                                                    @RequestParam(defaultValue = "" + CourseSuggestionIndex.DEFAULT_LIMIT) int limit) {
+        return courseService.suggestCourses(prefix, limit);
     }
 }
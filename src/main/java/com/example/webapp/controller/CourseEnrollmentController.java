@@ -1,94 +1,89 @@
 package com.example.webapp.controller;
 
-import com.example.webapp.entity.Course;
+import com.example.webapp.dto.CourseSummaryDTO;
+import com.example.webapp.dto.StudentSummaryDTO;
 import com.example.webapp.entity.Student;
-import com.example.webapp.entity.User;
+import com.example.webapp.service.AuthenticatedUser;
 import com.example.webapp.service.CourseService;
+import com.example.webapp.service.DeptService;
+import com.example.webapp.service.EnrollmentService;
 import com.example.webapp.service.StudentService;
-import com.example.webapp.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Slice;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
-
 @Controller
 @RequestMapping("/courses")
 public class CourseEnrollmentController {
 
     @Autowired
-    private UserService userService;
+    private StudentService studentService;
 
     @Autowired
-    private StudentService studentService;
+    private EnrollmentService enrollmentService;
 
     @Autowired
     private CourseService courseService;
 
+    @Autowired
+    private DeptService deptService;
+
     @GetMapping("/my-courses")
-    public String viewMyCourses(Model model) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getStudent() == null) {
+    public String viewMyCourses(@AuthenticationPrincipal AuthenticatedUser principal, Model model) {
+        if (!principal.isStudent()) {
             return "redirect:/home";
         }
 
-        Student student = user.getStudent();
+        Student student = studentService.getStudentById(principal.getStudentId()).orElse(null);
+        if (student == null) {
+            return "redirect:/home";
+        }
         model.addAttribute("student", student);
         model.addAttribute("courses", student.getEnrolledCourses());
         return "my-courses";
     }
 
     @GetMapping("/available")
-    public String viewAvailableCourses(Model model) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getStudent() == null) {
+    public String viewAvailableCourses(@AuthenticationPrincipal AuthenticatedUser principal,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(required = false) Long deptId,
+                                       Model model) {
+        if (!principal.isStudent()) {
             return "redirect:/home";
         }
 
-        Student student = user.getStudent();
-        List<Course> allCourses = courseService.getAllCourses();
-        
-        // Filter out courses already enrolled
-        List<Course> availableCourses = allCourses.stream()
-            .filter(course -> !student.getEnrolledCourses().contains(course))
-            .toList();
+        StudentSummaryDTO student = studentService.getStudentSummary(principal.getStudentId()).orElse(null);
+        if (student == null) {
+            return "redirect:/home";
+        }
+        Slice<CourseSummaryDTO> availableCourses = courseService.getAvailableCourses(student.getId(), deptId, page);
         
         model.addAttribute("student", student);
-        model.addAttribute("availableCourses", availableCourses);
+        model.addAttribute("availableCourses", availableCourses.getContent());
+        model.addAttribute("page", availableCourses.getNumber());
+        model.addAttribute("hasNext", availableCourses.hasNext());
+        model.addAttribute("deptId", deptId);
+        model.addAttribute("departments", deptService.getAllDepartmentSummaries());
         return "available-courses";
     }
 
     @PostMapping("/enroll/{courseId}")
-    public String enrollInCourse(@PathVariable Long courseId, RedirectAttributes redirectAttributes) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getStudent() == null) {
+    public String enrollInCourse(@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable Long courseId,
+                                 RedirectAttributes redirectAttributes) {
+        if (!principal.isStudent()) {
             return "redirect:/home";
         }
 
         try {
-            Student student = user.getStudent();
-            Course course = courseService.getCourseById(courseId).orElse(null);
-            
-            if (course == null) {
-                redirectAttributes.addFlashAttribute("error", "Course not found");
-                return "redirect:/courses/available";
-            }
-            
-            if (!student.getEnrolledCourses().contains(course)) {
-                student.getEnrolledCourses().add(course);
-                studentService.saveStudent(student);
-                redirectAttributes.addFlashAttribute("success", "Successfully enrolled in " + course.getName());
-            } else {
-                redirectAttributes.addFlashAttribute("error", "You are already enrolled in this course");
+            switch (enrollmentService.enroll(principal.getStudentId(), courseId)) {
+                case ENROLLED -> redirectAttributes.addFlashAttribute("success", "Successfully enrolled in " + courseName(courseId));
+                case ALREADY_ENROLLED -> redirectAttributes.addFlashAttribute("error", "You are already enrolled in this course");
+                case COURSE_FULL -> redirectAttributes.addFlashAttribute("error", "This course is full");
+                default -> redirectAttributes.addFlashAttribute("error", "Course not found");
             }
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Failed to enroll in course: " + e.getMessage());
@@ -98,27 +93,17 @@ public class CourseEnrollmentController {
     }
 
     @PostMapping("/unenroll/{courseId}")
-    public String unenrollFromCourse(@PathVariable Long courseId, RedirectAttributes redirectAttributes) {
-        String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getStudent() == null) {
+    public String unenrollFromCourse(@AuthenticationPrincipal AuthenticatedUser principal, @PathVariable Long courseId,
+                                     RedirectAttributes redirectAttributes) {
+        if (!principal.isStudent()) {
             return "redirect:/home";
         }
 
         try {
-            Student student = user.getStudent();
-            Course course = courseService.getCourseById(courseId).orElse(null);
-            
-            if (course == null) {
-                redirectAttributes.addFlashAttribute("error", "Course not found");
-                return "redirect:/courses/my-courses";
-            }
-            
-            if (student.getEnrolledCourses().contains(course)) {
-                student.getEnrolledCourses().remove(course);
-                studentService.saveStudent(student);
-                redirectAttributes.addFlashAttribute("success", "Successfully unenrolled from " + course.getName());
+            if (enrollmentService.unenroll(principal.getStudentId(), courseId) == EnrollmentService.Result.UNENROLLED) {
+                redirectAttributes.addFlashAttribute("success", "Successfully unenrolled from " + courseName(courseId));
+            } else {
+                redirectAttributes.addFlashAttribute("error", "You are not enrolled in this course");
             }
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Failed to unenroll from course: " + e.getMessage());
@@ -126,4 +111,9 @@ public class CourseEnrollmentController {
         
         return "redirect:/courses/my-courses";
     }
+
+    // Only looked up after a successful write; the enrollment statements themselves never load the course
+    private String courseName(Long courseId) {
+        return courseService.getCourseSummary(courseId).map(CourseSummaryDTO::getName).orElse("the course");
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.dto.DeptSummaryDTO;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.service.DeptService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -50,18 +52,18 @@ public class DeptController {
         return "redirect:/departments";
     }
 
-    // REST API endpoints
+    // REST API endpoints; polled by portal integrations, so they answer If-None-Match with 304
     @GetMapping("/api")
     @ResponseBody
-    public List<Dept> getAllDepartments() {
-        return deptService.getAllDepartments();
+    public ResponseEntity<List<DeptSummaryDTO>> getAllDepartments(WebRequest request) {
+        return ConditionalGet.ifNoneMatch(request, deptService.getDepartmentsEtag(), deptService::getAllDepartmentSummaries);
     }
 
     @GetMapping("/api/{id}")
     @ResponseBody
-    public ResponseEntity<Dept> getDepartmentById(@PathVariable Long id) {
-        return deptService.getDepartmentById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<DeptSummaryDTO> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        return deptService.getDepartmentEtag(id)
+                .map(etag -> ConditionalGet.ifNoneMatchSingle(request, etag, () -> deptService.getDepartmentSummary(id)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
     }
 }
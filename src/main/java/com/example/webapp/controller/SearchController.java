@@ -0,0 +1,27 @@
+package com.example.webapp.controller;
+
+import com.example.webapp.dto.SearchPageDTO;
+import com.example.webapp.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+@Controller
+@RequestMapping("/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    // type may repeat (?type=student&type=course); without it all kinds are searched
+    @GetMapping
+    @ResponseBody
+    public SearchPageDTO search(@RequestParam("q") String term,
+                                @RequestParam(name = "type", required = false) Set<SearchService.Type> types,
+                                @RequestParam(defaultValue = "0") int page,
+                                @RequestParam(defaultValue = "" + SearchService.DEFAULT_PAGE_SIZE) int size) {
+        return searchService.search(term, types, page, size);
+    }
+}
@@ -1,17 +1,29 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.dto.CursorPageDTO;
 import com.example.webapp.dto.StudentDTO;
+import com.example.webapp.dto.StudentSummaryDTO;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Student;
 import com.example.webapp.service.DeptService;
+import com.example.webapp.service.StudentExportService;
+import com.example.webapp.service.StudentImportJob;
+import com.example.webapp.service.StudentImportService;
 import com.example.webapp.service.StudentService;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 @Controller
 @RequestMapping("/students")
@@ -22,6 +34,12 @@ public class StudentController {
     @Autowired
     private DeptService deptService;
 
+    @Autowired
+    private StudentExportService studentExportService;
+
+    @Autowired
+    private StudentImportService studentImportService;
+
     public StudentController(StudentService studentService) {
         this.studentService = studentService;
     }
@@ -58,6 +76,56 @@ public class StudentController {
         return "redirect:/students";
     }
 
+    @GetMapping("/import")
+    public String showImportForm() {
+        return "student-import";
+    }
+
+    @PostMapping("/import")
+    public String importStudents(@RequestParam("file") MultipartFile file,
+                                 RedirectAttributes redirectAttributes) {
+        if (file.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "Please choose a CSV file to import");
+            return "redirect:/students/import";
+        }
+        try (InputStream content = file.getInputStream()) {
+            StudentImportJob job = studentImportService.startImport(file.getOriginalFilename(), content);
+            return "redirect:/students/import/" + job.getId();
+        } catch (IOException e) {
+            redirectAttributes.addFlashAttribute("error", "Failed to read upload: " + e.getMessage());
+            return "redirect:/students/import";
+        }
+    }
+
+    @GetMapping("/import/{jobId}")
+    public String viewImport(@PathVariable String jobId, Model model) {
+        StudentImportJob job = studentImportService.getJob(jobId)
+                .orElseThrow(() -> new RuntimeException("Import not found"));
+        model.addAttribute("job", job);
+        return "student-import";
+    }
+
+    @GetMapping("/import/{jobId}/status")
+    @ResponseBody
+    public ResponseEntity<StudentImportJob> getImportStatus(@PathVariable String jobId) {
+        return studentImportService.getJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/import/{jobId}/errors")
+    public void downloadImportErrors(@PathVariable String jobId, HttpServletResponse response) throws IOException {
+        StudentImportJob job = studentImportService.getJob(jobId).orElse(null);
+        if (job == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType("text/csv");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"import-errors-" + jobId + ".csv\"");
+        studentImportService.writeErrorReport(job, response.getWriter());
+    }
+
     @GetMapping("/delete/{id}")
     public String deleteStudent(@PathVariable Long id) {
         studentService.deleteStudent(id);
@@ -67,14 +135,49 @@ public class StudentController {
     // REST API endpoints
     @GetMapping("/api")
     @ResponseBody
-    public List<Student> getAllStudents() {
-        return studentService.getAllStudents();
+    public ResponseEntity<CursorPageDTO<StudentSummaryDTO>> getAllStudents(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long deptId,
+            @RequestParam(required = false) Integer semester,
+            @RequestParam(required = false) String academicYear) {
+        try {
+            return ResponseEntity.ok(studentService.getStudentPage(after, limit, deptId, semester, academicYear));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export")
+    public void exportStudents(@RequestParam(defaultValue = "ndjson") String format,
+                               @RequestParam(defaultValue = "false") boolean gzip,
+                               HttpServletResponse response) throws IOException {
+        StudentExportService.Format exportFormat;
+        try {
+            exportFormat = StudentExportService.Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unsupported export format: " + format);
+            return;
+        }
+
+        String filename = "students." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+
+        if (gzip) {
+            GZIPOutputStream gzipStream = new GZIPOutputStream(response.getOutputStream(), 8192);
+            studentExportService.exportStudents(exportFormat, gzipStream);
+            gzipStream.finish();
+        } else {
+            studentExportService.exportStudents(exportFormat, response.getOutputStream());
+        }
     }
 
     @GetMapping("/api/{id}")
     @ResponseBody
-    public ResponseEntity<Student> getStudentById(@PathVariable Long id) {
-        return studentService.getStudentById(id)
+    public ResponseEntity<StudentSummaryDTO> getStudentById(@PathVariable Long id) {
+        return studentService.getStudentSummary(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -1,5 +1,6 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.dto.TeacherSummaryDTO;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Teacher;
 import com.example.webapp.service.DeptService;
@@ -65,14 +66,14 @@ public class TeacherController {
     // REST API endpoints
     @GetMapping("/api")
     @ResponseBody
-    public List<Teacher> getAllTeachers() {
-        return teacherService.getAllTeachers();
+    public List<TeacherSummaryDTO> getAllTeachers() {
+        return teacherService.getAllTeacherSummaries();
     }
 
     @GetMapping("/api/{id}")
     @ResponseBody
-    public ResponseEntity<Teacher> getTeacherById(@PathVariable Long id) {
-        return teacherService.getTeacherById(id)
+    public ResponseEntity<TeacherSummaryDTO> getTeacherById(@PathVariable Long id) {
+        return teacherService.getTeacherSummary(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
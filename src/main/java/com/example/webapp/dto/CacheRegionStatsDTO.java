@@ -0,0 +1,56 @@
+package com.example.webapp.dto;
+
+public class CacheRegionStatsDTO {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+
+    public CacheRegionStatsDTO() {
+    }
+
+    public CacheRegionStatsDTO(String region, long hitCount, long missCount, long putCount) {
+        this.region = region;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.putCount = putCount;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public void setHitCount(long hitCount) {
+        this.hitCount = hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public void setMissCount(long missCount) {
+        this.missCount = missCount;
+    }
+
+    public long getPutCount() {
+        return putCount;
+    }
+
+    public void setPutCount(long putCount) {
+        this.putCount = putCount;
+    }
+
+    public double getHitRatio() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0.0 : (double) hitCount / lookups;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.webapp.dto;
+
+public class CollectionVersionDTO {
+
+    private Long count;
+
+    // Sum of row_version over the rows the collection is rendered from
+    private Long version;
+
+    public CollectionVersionDTO() {
+    }
+
+    // Used by JPQL constructor expressions in CourseRepository and DeptRepository
+    public CollectionVersionDTO(Long count, Long version) {
+        this.count = count;
+        this.version = version;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    // Inserts and deletes move the count; every update raises the sum. A maximum would miss an update
+    // that drew a lower version but committed after one with a higher version
+    public String toEtag() {
+        return count + "-" + version;
+    }
+}
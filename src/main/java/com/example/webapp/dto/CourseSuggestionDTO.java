@@ -0,0 +1,42 @@
+package com.example.webapp.dto;
+
+public class CourseSuggestionDTO {
+
+    private Long id;
+    private String code;
+    private String name;
+
+    public CourseSuggestionDTO() {
+    }
+
+    // Used by the JPQL constructor expression in CourseRepository
+    public CourseSuggestionDTO(Long id, String code, String name) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+}
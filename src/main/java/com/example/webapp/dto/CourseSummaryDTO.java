@@ -0,0 +1,128 @@
+package com.example.webapp.dto;
+
+public class CourseSummaryDTO {
+
+    private Long id;
+    private String code;
+    private String name;
+    private String description;
+    private Integer credits;
+    private Integer capacity;
+    private int seatsTaken;
+    private Long deptId;
+    private String deptName;
+    private Long createdById;
+    private String createdByName;
+
+    public CourseSummaryDTO() {
+    }
+
+    // Used by JPQL constructor expressions in CourseRepository
+    public CourseSummaryDTO(Long id, String code, String name, String description, Integer credits,
+                            Integer capacity, int seatsTaken,
+                            Long deptId, String deptName, Long createdById, String createdByName) {
+        this.id = id;
+        this.code = code;
+        this.name = name;
+        this.description = description;
+        this.credits = credits;
+        this.capacity = capacity;
+        this.seatsTaken = seatsTaken;
+        this.deptId = deptId;
+        this.deptName = deptName;
+        this.createdById = createdById;
+        this.createdByName = createdByName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getCredits() {
+        return credits;
+    }
+
+    public void setCredits(Integer credits) {
+        this.credits = credits;
+    }
+
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getSeatsTaken() {
+        return seatsTaken;
+    }
+
+    public void setSeatsTaken(int seatsTaken) {
+        this.seatsTaken = seatsTaken;
+    }
+
+    public boolean isFull() {
+        return capacity != null && seatsTaken >= capacity;
+    }
+
+    public Long getDeptId() {
+        return deptId;
+    }
+
+    public void setDeptId(Long deptId) {
+        this.deptId = deptId;
+    }
+
+    public String getDeptName() {
+        return deptName;
+    }
+
+    public void setDeptName(String deptName) {
+        this.deptName = deptName;
+    }
+
+    public Long getCreatedById() {
+        return createdById;
+    }
+
+    public void setCreatedById(Long createdById) {
+        this.createdById = createdById;
+    }
+
+    public String getCreatedByName() {
+        return createdByName;
+    }
+
+    public void setCreatedByName(String createdByName) {
+        this.createdByName = createdByName;
+    }
+}
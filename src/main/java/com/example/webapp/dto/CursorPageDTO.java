@@ -0,0 +1,35 @@
+package com.example.webapp.dto;
+
+import java.util.List;
+
+public class CursorPageDTO<T> {
+
+    private List<T> items;
+
+    // Opaque token for the next request; null when there are no more rows
+    private String nextCursor;
+
+    public CursorPageDTO() {
+    }
+
+    public CursorPageDTO(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.webapp.dto;
+
+public class DeptSummaryDTO {
+
+    private Long id;
+    private String name;
+    private String description;
+
+    public DeptSummaryDTO() {
+    }
+
+    // Used by JPQL constructor expressions in DeptRepository
+    public DeptSummaryDTO(Long id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+}
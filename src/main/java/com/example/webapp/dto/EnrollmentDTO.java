@@ -0,0 +1,32 @@
+package com.example.webapp.dto;
+
+public class EnrollmentDTO {
+
+    private Long studentId;
+    private Long courseId;
+
+    public EnrollmentDTO() {
+    }
+
+    // Used by JPQL constructor expressions over the student_course join table
+    public EnrollmentDTO(Long studentId, Long courseId) {
+        this.studentId = studentId;
+        this.courseId = courseId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(Long courseId) {
+        this.courseId = courseId;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.webapp.dto;
+
+public class ImportRowErrorDTO {
+
+    private long rowNumber;
+    private String roll;
+    private String message;
+
+    public ImportRowErrorDTO() {
+    }
+
+    public ImportRowErrorDTO(long rowNumber, String roll, String message) {
+        this.rowNumber = rowNumber;
+        this.roll = roll;
+        this.message = message;
+    }
+
+    public long getRowNumber() {
+        return rowNumber;
+    }
+
+    public void setRowNumber(long rowNumber) {
+        this.rowNumber = rowNumber;
+    }
+
+    public String getRoll() {
+        return roll;
+    }
+
+    public void setRoll(String roll) {
+        this.roll = roll;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.webapp.dto;
+
+public class PasswordHashingStatsDTO {
+
+    private long operations;
+    private long rejected;
+    private int queueDepth;
+    private double meanQueueWaitMs;
+    private double maxQueueWaitMs;
+    private double meanHashMs;
+    private double maxHashMs;
+
+    public PasswordHashingStatsDTO() {
+    }
+
+    public PasswordHashingStatsDTO(long operations, long rejected, int queueDepth,
+                                   double meanQueueWaitMs, double maxQueueWaitMs,
+                                   double meanHashMs, double maxHashMs) {
+        this.operations = operations;
+        this.rejected = rejected;
+        this.queueDepth = queueDepth;
+        this.meanQueueWaitMs = meanQueueWaitMs;
+        this.maxQueueWaitMs = maxQueueWaitMs;
+        this.meanHashMs = meanHashMs;
+        this.maxHashMs = maxHashMs;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public void setOperations(long operations) {
+        this.operations = operations;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public double getMeanQueueWaitMs() {
+        return meanQueueWaitMs;
+    }
+
+    public void setMeanQueueWaitMs(double meanQueueWaitMs) {
+        this.meanQueueWaitMs = meanQueueWaitMs;
+    }
+
+    public double getMaxQueueWaitMs() {
+        return maxQueueWaitMs;
+    }
+
+    public void setMaxQueueWaitMs(double maxQueueWaitMs) {
+        this.maxQueueWaitMs = maxQueueWaitMs;
+    }
+
+    public double getMeanHashMs() {
+        return meanHashMs;
+    }
+
+    public void setMeanHashMs(double meanHashMs) {
+        this.meanHashMs = meanHashMs;
+    }
+
+    public double getMaxHashMs() {
+        return maxHashMs;
+    }
+
+    public void setMaxHashMs(double maxHashMs) {
+        this.maxHashMs = maxHashMs;
+    }
+}
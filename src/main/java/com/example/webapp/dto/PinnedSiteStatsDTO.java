@@ -0,0 +1,74 @@
+package com.example.webapp.dto;
+
+import java.util.List;
+
+public class PinnedSiteStatsDTO {
+
+    private String site;
+    private String category;
+    private long events;
+    private double totalMs;
+    private double maxMs;
+    private List<String> stackTrace;
+
+    public PinnedSiteStatsDTO() {
+    }
+
+    public PinnedSiteStatsDTO(String site, String category, long events, double totalMs, double maxMs,
+                              List<String> stackTrace) {
+        this.site = site;
+        this.category = category;
+        this.events = events;
+        this.totalMs = totalMs;
+        this.maxMs = maxMs;
+        this.stackTrace = stackTrace;
+    }
+
+    public String getSite() {
+        return site;
+    }
+
+    public void setSite(String site) {
+        this.site = site;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public long getEvents() {
+        return events;
+    }
+
+    public void setEvents(long events) {
+        this.events = events;
+    }
+
+    public double getTotalMs() {
+        return totalMs;
+    }
+
+    public void setTotalMs(double totalMs) {
+        this.totalMs = totalMs;
+    }
+
+    public double getMaxMs() {
+        return maxMs;
+    }
+
+    public void setMaxMs(double maxMs) {
+        this.maxMs = maxMs;
+    }
+
+    public List<String> getStackTrace() {
+        return stackTrace;
+    }
+
+    public void setStackTrace(List<String> stackTrace) {
+        this.stackTrace = stackTrace;
+    }
+}
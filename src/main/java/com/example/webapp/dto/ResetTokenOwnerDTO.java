@@ -0,0 +1,33 @@
+package com.example.webapp.dto;
+
+// The owner of a reset token, as far as the reset needs it; loading the User would also load its one-to-one sides
+public class ResetTokenOwnerDTO {
+
+    private Long userId;
+    private String username;
+
+    public ResetTokenOwnerDTO() {
+    }
+
+    // Used by the JPQL constructor expression in PasswordResetTokenRepository
+    public ResetTokenOwnerDTO(Long userId, String username) {
+        this.userId = userId;
+        this.username = username;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+}
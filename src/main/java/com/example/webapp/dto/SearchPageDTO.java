@@ -0,0 +1,55 @@
+package com.example.webapp.dto;
+
+import java.util.List;
+
+public class SearchPageDTO {
+
+    private List<SearchResultDTO> items;
+    private int page;
+    private int size;
+
+    // Ranked search never counts all matches; one extra row tells whether another page exists
+    private boolean hasNext;
+
+    public SearchPageDTO() {
+    }
+
+    public SearchPageDTO(List<SearchResultDTO> items, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public List<SearchResultDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<SearchResultDTO> items) {
+        this.items = items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.webapp.dto;
+
+public class SearchResultDTO {
+
+    private String type;
+    private Long id;
+    private String title;
+
+    // Roll number for students, email for teachers, code for courses
+    private String detail;
+    private double rank;
+
+    public SearchResultDTO() {
+    }
+
+    public SearchResultDTO(String type, Long id, String title, String detail, double rank) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.detail = detail;
+        this.rank = rank;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public void setDetail(String detail) {
+        this.detail = detail;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+
+    public void setRank(double rank) {
+        this.rank = rank;
+    }
+}
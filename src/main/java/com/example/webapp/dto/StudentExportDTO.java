@@ -0,0 +1,26 @@
+package com.example.webapp.dto;
+
+import java.util.List;
+
+public class StudentExportDTO extends StudentSummaryDTO {
+
+    // Ids from the student's student_course rows
+    private List<Long> courseIds;
+
+    public StudentExportDTO() {
+    }
+
+    public StudentExportDTO(Long id, String name, String roll, String email, Integer currentSemester,
+                            String academicYear, Long deptId, String deptName, List<Long> courseIds) {
+        super(id, name, roll, email, currentSemester, academicYear, deptId, deptName);
+        this.courseIds = courseIds;
+    }
+
+    public List<Long> getCourseIds() {
+        return courseIds;
+    }
+
+    public void setCourseIds(List<Long> courseIds) {
+        this.courseIds = courseIds;
+    }
+}
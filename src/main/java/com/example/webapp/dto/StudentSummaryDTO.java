@@ -0,0 +1,93 @@
+package com.example.webapp.dto;
+
+public class StudentSummaryDTO {
+
+    private Long id;
+    private String name;
+    private String roll;
+    private String email;
+    private Integer currentSemester;
+    private String academicYear;
+    private Long deptId;
+    private String deptName;
+
+    public StudentSummaryDTO() {
+    }
+
+    // Used by JPQL constructor expressions in StudentRepository
+    public StudentSummaryDTO(Long id, String name, String roll, String email, Integer currentSemester,
+                             String academicYear, Long deptId, String deptName) {
+        this.id = id;
+        this.name = name;
+        this.roll = roll;
+        this.email = email;
+        this.currentSemester = currentSemester;
+        this.academicYear = academicYear;
+        this.deptId = deptId;
+        this.deptName = deptName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getRoll() {
+        return roll;
+    }
+
+    public void setRoll(String roll) {
+        this.roll = roll;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Integer getCurrentSemester() {
+        return currentSemester;
+    }
+
+    public void setCurrentSemester(Integer currentSemester) {
+        this.currentSemester = currentSemester;
+    }
+
+    public String getAcademicYear() {
+        return academicYear;
+    }
+
+    public void setAcademicYear(String academicYear) {
+        this.academicYear = academicYear;
+    }
+
+    public Long getDeptId() {
+        return deptId;
+    }
+
+    public void setDeptId(Long deptId) {
+        this.deptId = deptId;
+    }
+
+    public String getDeptName() {
+        return deptName;
+    }
+
+    public void setDeptName(String deptName) {
+        this.deptName = deptName;
+    }
+}
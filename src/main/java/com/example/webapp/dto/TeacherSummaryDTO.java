@@ -0,0 +1,72 @@
+package com.example.webapp.dto;
+
+public class TeacherSummaryDTO {
+
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private Long deptId;
+    private String deptName;
+
+    public TeacherSummaryDTO() {
+    }
+
+    // Used by JPQL constructor expressions in TeacherRepository
+    public TeacherSummaryDTO(Long id, String name, String email, String phone, Long deptId, String deptName) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.phone = phone;
+        this.deptId = deptId;
+        this.deptName = deptName;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public Long getDeptId() {
+        return deptId;
+    }
+
+    public void setDeptId(Long deptId) {
+        this.deptId = deptId;
+    }
+
+    public String getDeptName() {
+        return deptName;
+    }
+
+    public void setDeptName(String deptName) {
+        this.deptName = deptName;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.webapp.dto;
+
+import com.example.webapp.entity.Role;
+
+// Everything authentication needs about a user, without loading the User entity or its one-to-one sides
+public class UserAccountDTO {
+
+    private Long id;
+    private String username;
+    private String passwordHash;
+    private Role role;
+    private boolean enabled;
+    private Long studentId;
+    private Long teacherId;
+
+    public UserAccountDTO() {
+    }
+
+    // Used by the JPQL constructor expression in UserRepository
+    public UserAccountDTO(Long id, String username, String passwordHash, Role role, boolean enabled,
+                          Long studentId, Long teacherId) {
+        this.id = id;
+        this.username = username;
+        this.passwordHash = passwordHash;
+        this.role = role;
+        this.enabled = enabled;
+        this.studentId = studentId;
+        this.teacherId = teacherId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPasswordHash() {
+        return passwordHash;
+    }
+
+    public void setPasswordHash(String passwordHash) {
+        this.passwordHash = passwordHash;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    public void setRole(Role role) {
+        this.role = role;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Long studentId) {
+        this.studentId = studentId;
+    }
+
+    public Long getTeacherId() {
+        return teacherId;
+    }
+
+    public void setTeacherId(Long teacherId) {
+        this.teacherId = teacherId;
+    }
+}
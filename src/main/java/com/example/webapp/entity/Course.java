@@ -1,14 +1,21 @@
 package com.example.webapp.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "courses")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course")
 public class Course {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "course_seq")
+    @SequenceGenerator(name = "course_seq", sequenceName = "courses_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -21,6 +28,15 @@ public class Course {
 
     private Integer credits;
 
+    // Maximum number of enrolled students; null means unlimited
+    private Integer capacity;
+
+    // Drawn from catalog_version_seq on every insert and update. The seat updates in CourseRepository
+    // bump it too without touching the cached entity, so read it through CourseSeats
+    @Generated(event = {EventType.INSERT, EventType.UPDATE}, sql = "nextval('catalog_version_seq')")
+    @Column(name = "row_version", nullable = false)
+    private long rowVersion;
+
     // Many courses belong to one department
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dept_id")
@@ -32,6 +48,7 @@ public class Course {
     private Teacher createdBy;
 
     // Many-to-Many relationship with students (students enrolled in courses)
+    // Not cached: every enrollment writes student_course, which would evict the whole region
     @ManyToMany(mappedBy = "enrolledCourses")
     private Set<Student> enrolledStudents = new HashSet<>();
 
@@ -86,6 +103,18 @@ public class Course {
         this.credits = credits;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public long getRowVersion() {
+        return rowVersion;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public Dept getDept() {
         return dept;
     }
@@ -0,0 +1,50 @@
+package com.example.webapp.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+/**
+ * Read-only view of a course's seat counter and row version.
+ * <p>
+ * The counter changes on every enrollment through the native updates in CourseRepository. Those
+ * updates announce only the {@link #QUERY_SPACE} query space, so they leave the cached Course
+ * entities, the department collections and the cached queries that do not read seats alone.
+ * Queries that show seats or build ETags join this entity instead of reading Course, and their
+ * cached results are invalidated by those updates as well as by course writes.
+ */
+@Entity
+@Immutable
+@Subselect("select id, seats_taken, row_version from courses")
+@Synchronize({"courses", CourseSeats.QUERY_SPACE})
+public class CourseSeats {
+
+    public static final String QUERY_SPACE = "course_seats";
+
+    @Id
+    private Long id;
+
+    @Column(name = "seats_taken")
+    private int seatsTaken;
+
+    @Column(name = "row_version")
+    private long rowVersion;
+
+    protected CourseSeats() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getSeatsTaken() {
+        return seatsTaken;
+    }
+
+    public long getRowVersion() {
+        return rowVersion;
+    }
+}
@@ -1,14 +1,21 @@
 package com.example.webapp.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
 @Table(name = "departments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dept")
 public class Dept {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dept_seq")
+    @SequenceGenerator(name = "dept_seq", sequenceName = "departments_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -16,6 +23,11 @@ public class Dept {
 
     private String description;
 
+    // Drawn from catalog_version_seq on every insert and update; the API ETags are built from it
+    @Generated(event = {EventType.INSERT, EventType.UPDATE}, sql = "nextval('catalog_version_seq')")
+    @Column(name = "row_version", nullable = false)
+    private long rowVersion;
+
     // One department can have many teachers
     @OneToMany(mappedBy = "dept", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Teacher> teachers = new HashSet<>();
@@ -25,6 +37,9 @@ public class Dept {
     private Set<Student> students = new HashSet<>();
 
     // One department can have many courses
+    // Only this collection is cached: its elements are cached too, whereas cached ids of
+    // uncached students or teachers would turn one collection load into one select per element
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "dept-courses")
     @OneToMany(mappedBy = "dept", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Course> courses = new HashSet<>();
 
@@ -57,6 +72,10 @@ public class Dept {
         return description;
     }
 
+    public long getRowVersion() {
+        return rowVersion;
+    }
+
     public void setDescription(String description) {
         this.description = description;
     }
@@ -0,0 +1,18 @@
+package com.example.webapp.entity;
+
+/**
+ * Shared sequence settings for entity identifiers.
+ * Ids are reserved from the database in blocks of {@link #SIZE} (pooled optimizer),
+ * so inserts no longer need a round trip per row and can be sent as JDBC batches.
+ * <p>
+ * Deliberately not a property: the pooled optimizer treats each sequence value as the top of a
+ * block, so this must equal the INCREMENT BY of the sequences in the migrations. Changing it
+ * takes a migration that alters the sequences, plus a rebuild.
+ */
+public final class IdAllocation {
+
+    public static final int SIZE = 50;
+
+    private IdAllocation() {
+    }
+}
@@ -8,7 +8,8 @@ import java.util.Set;
 @Table(name = "students")
 public class Student {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "student_seq")
+    @SequenceGenerator(name = "student_seq", sequenceName = "students_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false)
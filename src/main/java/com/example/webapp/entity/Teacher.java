@@ -1,6 +1,8 @@
 package com.example.webapp.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -8,7 +10,8 @@ import java.util.Set;
 @Table(name = "teachers")
 public class Teacher {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teacher_seq")
+    @SequenceGenerator(name = "teacher_seq", sequenceName = "teachers_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -19,6 +22,11 @@ public class Teacher {
 
     private String phone;
 
+    // Drawn from catalog_version_seq on every insert and update; the API ETags are built from it
+    @Generated(event = {EventType.INSERT, EventType.UPDATE}, sql = "nextval('catalog_version_seq')")
+    @Column(name = "row_version", nullable = false)
+    private long rowVersion;
+
     // One teacher belongs to one user account
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", unique = true)
@@ -80,6 +88,10 @@ public class Teacher {
         return phone;
     }
 
+    public long getRowVersion() {
+        return rowVersion;
+    }
+
     public void setPhone(String phone) {
         this.phone = phone;
     }
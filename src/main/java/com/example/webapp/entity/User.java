@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 @Table(name = "users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_seq", allocationSize = IdAllocation.SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -25,10 +26,6 @@ public class User {
 
     private boolean enabled = true;
 
-    private String resetToken;
-
-    private LocalDateTime resetTokenExpiry;
-
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Student student;
 
@@ -102,22 +99,6 @@ public class User {
         this.enabled = enabled;
     }
 
-    public String getResetToken() {
-        return resetToken;
-    }
-
-    public void setResetToken(String resetToken) {
-        this.resetToken = resetToken;
-    }
-
-    public LocalDateTime getResetTokenExpiry() {
-        return resetTokenExpiry;
-    }
-
-    public void setResetTokenExpiry(LocalDateTime resetTokenExpiry) {
-        this.resetTokenExpiry = resetTokenExpiry;
-    }
-
     public Student getStudent() {
         return student;
     }
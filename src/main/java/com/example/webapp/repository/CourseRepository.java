@@ -1,7 +1,19 @@
 package com.example.webapp.repository;
 
+import com.example.webapp.dto.CollectionVersionDTO;
+import com.example.webapp.dto.CourseSuggestionDTO;
+import com.example.webapp.dto.CourseSummaryDTO;
 import com.example.webapp.entity.Course;
+import com.example.webapp.entity.CourseSeats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +24,90 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     Optional<Course> findByCode(String code);
     List<Course> findByDeptId(Long deptId);
     List<Course> findByCreatedById(Long teacherId);
+
+    @Query("select c.id from Course c where c.dept.id = :deptId")
+    List<Long> findIdsByDeptId(@Param("deptId") Long deptId);
+
+    // Catalog listing: department and creator names are joined in, so rendering never touches lazy proxies.
+    // Seat counts come from CourseSeats, so the cached result also follows enrollments
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.example.webapp.dto.CourseSummaryDTO(c.id, c.code, c.name, c.description, c.credits, " +
+           "c.capacity, s.seatsTaken, d.id, d.name, t.id, t.name) " +
+           "from Course c join CourseSeats s on s.id = c.id left join c.dept d left join c.createdBy t " +
+           "order by c.id")
+    List<CourseSummaryDTO> findCatalog();
+
+    // ETag sources for the course API. A summary shows its department's and teacher's names, so their
+    // rows count too. Answered from the query cache until one of the three tables is written
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.example.webapp.dto.CollectionVersionDTO(" +
+           "count(s) + (select count(d) from Dept d) + (select count(t) from Teacher t), " +
+           "coalesce(sum(s.rowVersion), 0) + (select coalesce(sum(d.rowVersion), 0) from Dept d) + " +
+           "(select coalesce(sum(t.rowVersion), 0) from Teacher t)) " +
+           "from CourseSeats s")
+    CollectionVersionDTO findCatalogVersion();
+
+    // "course-dept-teacher" row versions, each of which only ever grows
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select str(s.rowVersion) || '-' || str(coalesce(d.rowVersion, 0)) || '-' || str(coalesce(t.rowVersion, 0)) " +
+           "from Course c join CourseSeats s on s.id = c.id left join c.dept d left join c.createdBy t " +
+           "where c.id = :id")
+    Optional<String> findVersionsById(@Param("id") Long id);
+
+    // Startup load of the typeahead index: three columns per course, no joins
+    @Query("select new com.example.webapp.dto.CourseSuggestionDTO(c.id, c.code, c.name) from Course c")
+    List<CourseSuggestionDTO> findAllSuggestions();
+
+    @Query("select new com.example.webapp.dto.CourseSummaryDTO(c.id, c.code, c.name, c.description, c.credits, " +
+           "c.capacity, s.seatsTaken, d.id, d.name, t.id, t.name) " +
+           "from Course c join CourseSeats s on s.id = c.id left join c.dept d left join c.createdBy t " +
+           "where c.id = :id")
+    Optional<CourseSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    // Anti-join against student_course: the database filters out enrolled courses, no count query is run
+    @Query("select new com.example.webapp.dto.CourseSummaryDTO(c.id, c.code, c.name, c.description, c.credits, " +
+           "c.capacity, s.seatsTaken, d.id, d.name, t.id, t.name) " +
+           "from Course c join CourseSeats s on s.id = c.id left join c.dept d left join c.createdBy t " +
+           "where not exists (select 1 from Student st join st.enrolledCourses ec " +
+           "                  where st.id = :studentId and ec.id = c.id) " +
+           "and (:deptId is null or d.id = :deptId) " +
+           "order by c.code, c.id")
+    Slice<CourseSummaryDTO> findAvailableForStudent(@Param("studentId") Long studentId,
+                                                    @Param("deptId") Long deptId,
+                                                    Pageable pageable);
+
+    // Atomic seat reservation: the row lock plus the WHERE guard make overselling impossible.
+    // Seat writes announce only the CourseSeats space: the cached Course entities hold no counter,
+    // so only the queries that read seats are invalidated
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CourseSeats.QUERY_SPACE))
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update courses set seats_taken = seats_taken + 1, row_version = nextval('catalog_version_seq') " +
+                   "where id = :courseId and (capacity is null or seats_taken < capacity)", nativeQuery = true)
+    int reserveSeat(@Param("courseId") Long courseId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CourseSeats.QUERY_SPACE))
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update courses set seats_taken = seats_taken - 1, row_version = nextval('catalog_version_seq') " +
+                   "where id = :courseId and seats_taken > 0", nativeQuery = true)
+    int releaseSeat(@Param("courseId") Long courseId);
+
+    // Gives back the seats of every course the student holds, before the student and its join rows are deleted
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CourseSeats.QUERY_SPACE))
+    @Modifying(flushAutomatically = true)
+    @Query(value = "update courses set seats_taken = seats_taken - 1, row_version = nextval('catalog_version_seq') " +
+                   "where id in (select sc.course_id from student_course sc where sc.student_id = :studentId) " +
+                   "and seats_taken > 0", nativeQuery = true)
+    int releaseSeatsOfStudent(@Param("studentId") Long studentId);
+
+    // Taken before reconciling, so enrollments still in flight finish their counter update after the recount
+    @Query(value = "select id from courses order by id for update", nativeQuery = true)
+    List<Long> lockAllForSeatUpdate();
+
+    // Recomputes every counter from student_course, e.g. after enrollments were written outside EnrollmentService
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = CourseSeats.QUERY_SPACE))
+    @Modifying
+    @Query(value = "update courses c set seats_taken = " +
+                   "(select count(*) from student_course sc where sc.course_id = c.id), " +
+                   "row_version = nextval('catalog_version_seq')", nativeQuery = true)
+    int reconcileSeatCounts();
 }
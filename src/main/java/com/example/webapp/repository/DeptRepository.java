@@ -1,12 +1,44 @@
 package com.example.webapp.repository;
 
+import com.example.webapp.dto.CollectionVersionDTO;
+import com.example.webapp.dto.DeptSummaryDTO;
 import com.example.webapp.entity.Dept;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DeptRepository extends JpaRepository<Dept, Long> {
     Optional<Dept> findByName(String name);
+
+    // Department lists back every entity form, so results live in the query cache until departments change
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Dept> findAll();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.example.webapp.dto.DeptSummaryDTO(d.id, d.name, d.description) " +
+           "from Dept d order by d.id")
+    List<DeptSummaryDTO> findAllSummaries();
+
+    @Query("select new com.example.webapp.dto.DeptSummaryDTO(d.id, d.name, d.description) " +
+           "from Dept d where d.id = :id")
+    Optional<DeptSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    // ETag sources for the department API, answered from the query cache until departments change
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.example.webapp.dto.CollectionVersionDTO(count(d), coalesce(sum(d.rowVersion), 0)) " +
+           "from Dept d")
+    CollectionVersionDTO findCollectionVersion();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select d.rowVersion from Dept d where d.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
@@ -0,0 +1,40 @@
+package com.example.webapp.repository;
+
+import com.example.webapp.dto.ResetTokenOwnerDTO;
+import com.example.webapp.entity.PasswordResetToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, String> {
+
+    boolean existsByTokenHashAndExpiresAtAfter(String tokenHash, LocalDateTime now);
+
+    @Query("select new com.example.webapp.dto.ResetTokenOwnerDTO(u.id, u.username) " +
+           "from PasswordResetToken t join t.user u where t.tokenHash = :tokenHash and t.expiresAt > :now")
+    Optional<ResetTokenOwnerDTO> findOwnerByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    // Returns 0 when another request already consumed the token or it expired meanwhile
+    @Modifying
+    @Query("delete from PasswordResetToken t where t.tokenHash = :tokenHash and t.expiresAt > :now")
+    int deleteUnexpired(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("delete from PasswordResetToken t where t.user.id = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    // One short transaction per batch, so the sweeper never holds locks on the whole table
+    @Transactional
+    @Modifying
+    @Query(value = "delete from password_reset_tokens where token_hash in " +
+                   "(select token_hash from password_reset_tokens where expires_at <= :now limit :batchSize)",
+           nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
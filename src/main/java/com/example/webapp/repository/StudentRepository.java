@@ -1,14 +1,85 @@
 package com.example.webapp.repository;
 
+import com.example.webapp.dto.EnrollmentDTO;
+import com.example.webapp.dto.StudentSummaryDTO;
 import com.example.webapp.entity.Student;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByRoll(String roll);
     List<Student> findByDeptId(Long deptId);
+
+    @Query("select new com.example.webapp.dto.StudentSummaryDTO(s.id, s.name, s.roll, s.email, " +
+           "s.currentSemester, s.academicYear, d.id, d.name) " +
+           "from Student s left join s.dept d where s.id = :id")
+    Optional<StudentSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    // Single-statement enrollment writes straight to the join table; the course must exist for a row to be inserted
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_course"))
+    @Modifying(flushAutomatically = true)
+    @Query(value = "insert into student_course (student_id, course_id) " +
+                   "select :studentId, c.id from courses c where c.id = :courseId " +
+                   "on conflict do nothing", nativeQuery = true)
+    int insertEnrollment(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_course"))
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from student_course where student_id = :studentId and course_id = :courseId",
+           nativeQuery = true)
+    int deleteEnrollment(@Param("studentId") Long studentId, @Param("courseId") Long courseId);
+
+    // Course is the inverse side of student_course, so deleting a course does not clear its join rows
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "student_course"))
+    @Modifying(flushAutomatically = true)
+    @Query(value = "delete from student_course where course_id = :courseId", nativeQuery = true)
+    int deleteEnrollmentsOfCourse(@Param("courseId") Long courseId);
+
+    @Query("select u.username from Student s join s.user u where s.id = :id")
+    Optional<String> findUsernameById(@Param("id") Long id);
+
+    @Query("select s.roll from Student s where s.roll in :rolls")
+    List<String> findExistingRolls(@Param("rolls") Collection<String> rolls);
+
+    // Keyset page: seeks past the last seen id instead of using OFFSET, and never counts
+    @Query("select new com.example.webapp.dto.StudentSummaryDTO(s.id, s.name, s.roll, s.email, " +
+           "s.currentSemester, s.academicYear, d.id, d.name) " +
+           "from Student s left join s.dept d " +
+           "where s.id > :afterId " +
+           "and (:deptId is null or d.id = :deptId) " +
+           "and (:semester is null or s.currentSemester = :semester) " +
+           "and (:academicYear is null or s.academicYear = :academicYear) " +
+           "order by s.id")
+    List<StudentSummaryDTO> findPageAfter(@Param("afterId") Long afterId,
+                                          @Param("deptId") Long deptId,
+                                          @Param("semester") Integer semester,
+                                          @Param("academicYear") String academicYear,
+                                          Limit limit);
+
+    // Export cursor: rows are pulled from the database in fetch-size chunks and loaded read-only
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s from Student s left join fetch s.dept order by s.id")
+    Stream<Student> streamAllForExport();
+
+    @Query("select new com.example.webapp.dto.EnrollmentDTO(s.id, c.id) " +
+           "from Student s join s.enrolledCourses c " +
+           "where s.id in :studentIds " +
+           "order by s.id, c.id")
+    List<EnrollmentDTO> findEnrollmentsByStudentIds(@Param("studentIds") Collection<Long> studentIds);
 }
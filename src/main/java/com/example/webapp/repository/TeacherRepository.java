@@ -1,7 +1,10 @@
 package com.example.webapp.repository;
 
+import com.example.webapp.dto.TeacherSummaryDTO;
 import com.example.webapp.entity.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +14,15 @@ import java.util.Optional;
 public interface TeacherRepository extends JpaRepository<Teacher, Long> {
     Optional<Teacher> findByEmail(String email);
     List<Teacher> findByDeptId(Long deptId);
+
+    @Query("select new com.example.webapp.dto.TeacherSummaryDTO(t.id, t.name, t.email, t.phone, d.id, d.name) " +
+           "from Teacher t left join t.dept d order by t.id")
+    List<TeacherSummaryDTO> findAllSummaries();
+
+    @Query("select new com.example.webapp.dto.TeacherSummaryDTO(t.id, t.name, t.email, t.phone, d.id, d.name) " +
+           "from Teacher t left join t.dept d where t.id = :id")
+    Optional<TeacherSummaryDTO> findSummaryById(@Param("id") Long id);
+
+    @Query("select u.username from Teacher t join t.user u where t.id = :id")
+    Optional<String> findUsernameById(@Param("id") Long id);
 }
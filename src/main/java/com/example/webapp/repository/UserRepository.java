@@ -1,8 +1,13 @@
 package com.example.webapp.repository;
 
+import com.example.webapp.dto.UserAccountDTO;
 import com.example.webapp.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -10,7 +15,24 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     Optional<User> findByEmail(String email);
-    Optional<User> findByResetToken(String resetToken);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    @Query("select new com.example.webapp.dto.UserAccountDTO(u.id, u.username, u.password, u.role, u.enabled, " +
+           "s.id, t.id) " +
+           "from User u left join u.student s left join u.teacher t " +
+           "where u.username = :username")
+    Optional<UserAccountDTO> findAccountByUsername(@Param("username") String username);
+
+    // Clears the persistence context so a User loaded earlier in the transaction does not keep the old hash
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update User u set u.password = :newHash where u.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("newHash") String newHash);
+
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newHash where u.username = :username and u.password = :currentHash")
+    int updatePasswordIfUnchanged(@Param("username") String username,
+                                  @Param("currentHash") String currentHash,
+                                  @Param("newHash") String newHash);
 }
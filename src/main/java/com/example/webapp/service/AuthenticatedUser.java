@@ -0,0 +1,44 @@
+package com.example.webapp.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+// Principal stored in the security context; controllers take it with @AuthenticationPrincipal
+// and go straight to the student or teacher id without looking the user up again
+public class AuthenticatedUser extends User {
+
+    private final Long userId;
+    private final Long studentId;
+    private final Long teacherId;
+
+    public AuthenticatedUser(Long userId, String username, String password, boolean enabled,
+                             Collection<? extends GrantedAuthority> authorities,
+                             Long studentId, Long teacherId) {
+        super(username, password, enabled, true, true, true, authorities);
+        this.userId = userId;
+        this.studentId = studentId;
+        this.teacherId = teacherId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public Long getTeacherId() {
+        return teacherId;
+    }
+
+    public boolean isStudent() {
+        return studentId != null;
+    }
+
+    public boolean isTeacher() {
+        return teacherId != null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.CacheRegionStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+public class CacheAdminService {
+
+    private final SessionFactory sessionFactory;
+    private final CourseSuggestionIndex courseSuggestionIndex;
+
+    public CacheAdminService(EntityManagerFactory entityManagerFactory, CourseSuggestionIndex courseSuggestionIndex) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.courseSuggestionIndex = courseSuggestionIndex;
+    }
+
+    public List<CacheRegionStatsDTO> getRegionStatistics() {
+        Statistics statistics = sessionFactory.getStatistics();
+        List<CacheRegionStatsDTO> regions = new ArrayList<>();
+        for (String region : sortedRegionNames(statistics)) {
+            CacheRegionStatistics regionStats = statistics.getCacheRegionStatistics(region);
+            if (regionStats != null) {
+                regions.add(new CacheRegionStatsDTO(region, regionStats.getHitCount(),
+                        regionStats.getMissCount(), regionStats.getPutCount()));
+            }
+        }
+        regions.add(new CacheRegionStatsDTO("query-results", statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        return regions;
+    }
+
+    // For data changed outside the application, e.g. manual SQL during term setup
+    public void evictAll() {
+        sessionFactory.getCache().evictAll();
+        courseSuggestionIndex.rebuild();
+    }
+
+    private List<String> sortedRegionNames(Statistics statistics) {
+        String[] names = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(names);
+        return Arrays.asList(names);
+    }
+}
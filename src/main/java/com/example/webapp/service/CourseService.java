@@ -1,39 +1,94 @@
 package com.example.webapp.service;
 
+import com.example.webapp.dto.CourseSuggestionDTO;
+import com.example.webapp.dto.CourseSummaryDTO;
 import com.example.webapp.entity.Course;
 import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.StudentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class CourseService {
+
+    public static final int AVAILABLE_PAGE_SIZE = 20;
     
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseSuggestionIndex suggestionIndex;
+
+    @Transactional(readOnly = true)
     public List<Course> getAllCourses() {
         return courseRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public List<CourseSummaryDTO> getCourseCatalog() {
+        return courseRepository.findCatalog();
+    }
+
     public Optional<Course> getCourseById(Long id) {
         return courseRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<CourseSummaryDTO> getAvailableCourses(Long studentId, Long deptId, int page) {
+        return courseRepository.findAvailableForStudent(studentId, deptId,
+                PageRequest.of(Math.max(page, 0), AVAILABLE_PAGE_SIZE));
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CourseSummaryDTO> getCourseSummary(Long id) {
+        return courseRepository.findSummaryById(id);
+    }
+
+    // ETags for the course API; a conditional GET that matches never loads or maps the courses
+    @Transactional(readOnly = true)
+    public String getCatalogEtag() {
+        return courseRepository.findCatalogVersion().toEtag();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getCourseEtag(Long id) {
+        return courseRepository.findVersionsById(id).map(versions -> id + "-" + versions);
+    }
+
     public Course saveCourse(Course course) {
-        return courseRepository.save(course);
+        Course saved = courseRepository.save(course);
+        suggestionIndex.put(saved);
+        return saved;
     }
 
+    // The seat counter goes with the course row; only the enrollments need removing first
+    @Transactional
     public void deleteCourse(Long id) {
+        studentRepository.deleteEnrollmentsOfCourse(id);
         courseRepository.deleteById(id);
+        suggestionIndex.remove(id);
+    }
+
+    // Served from memory; no query per keystroke
+    public List<CourseSuggestionDTO> suggestCourses(String prefix, int limit) {
+        return suggestionIndex.suggest(prefix, limit);
     }
 
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByDept(Long deptId) {
         return courseRepository.findByDeptId(deptId);
     }
 
+    @Transactional(readOnly = true)
     public List<Course> getCoursesByTeacher(Long teacherId) {
         return courseRepository.findByCreatedById(teacherId);
     }
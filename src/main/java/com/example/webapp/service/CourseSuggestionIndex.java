@@ -0,0 +1,181 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.CourseSuggestionDTO;
+import com.example.webapp.entity.Course;
+import com.example.webapp.repository.CourseRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prefix index over course codes and names for the typeahead, held entirely in memory.
+ * <p>
+ * Every course contributes a few lower-cased keys: its code, its full name and the name from
+ * each later word on, so "str" finds "Data Structures". The keys sit in one sorted array, and
+ * a lookup is a binary search for the first key at or after the prefix followed by a short
+ * forward scan. Readers use an immutable snapshot without locking. Writes through
+ * {@link CourseService} replace the course's entries after commit and publish a new snapshot.
+ * <p>
+ * Changes made around the service (direct SQL, repository calls) show up after
+ * {@link #rebuild()}, which {@link CacheAdminService#evictAll()} also triggers.
+ */
+@Component
+public class CourseSuggestionIndex {
+
+    public static final int DEFAULT_LIMIT = 10;
+    static final int MAX_LIMIT = 50;
+
+    private record Entry(String key, CourseSuggestionDTO course) {
+    }
+
+    private static final Comparator<Entry> BY_KEY = Comparator.comparing(Entry::key)
+            .thenComparing(entry -> entry.course().getId());
+
+    private final CourseRepository courseRepository;
+    private volatile Entry[] entries = new Entry[0];
+
+    public CourseSuggestionIndex(CourseRepository courseRepository) {
+        this.courseRepository = courseRepository;
+    }
+
+    // After CommandLineRunners, so courses they seed are included
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<Entry> built = new ArrayList<>();
+        for (CourseSuggestionDTO course : courseRepository.findAllSuggestions()) {
+            addKeys(course, built);
+        }
+        Entry[] sorted = built.toArray(new Entry[0]);
+        Arrays.sort(sorted, BY_KEY);
+        entries = sorted;
+    }
+
+    /**
+     * Courses whose code, name or a later word of the name starts with {@code prefix},
+     * case-insensitively, in key order and without duplicates.
+     */
+    public List<CourseSuggestionDTO> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        int max = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Entry[] snapshot = entries;
+        Map<Long, CourseSuggestionDTO> found = new LinkedHashMap<>();
+        for (int i = lowerBound(snapshot, key); i < snapshot.length && found.size() < max; i++) {
+            Entry entry = snapshot[i];
+            if (!entry.key().startsWith(key)) {
+                break;
+            }
+            found.putIfAbsent(entry.course().getId(), entry.course());
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    void put(Course course) {
+        CourseSuggestionDTO suggestion = new CourseSuggestionDTO(course.getId(), course.getCode(), course.getName());
+        afterCommit(() -> {
+            List<Entry> added = new ArrayList<>();
+            addKeys(suggestion, added);
+            replace(Set.of(suggestion.getId()), added);
+        });
+    }
+
+    void remove(Long courseId) {
+        afterCommit(() -> replace(Set.of(courseId), List.of()));
+    }
+
+    void removeAll(Collection<Long> courseIds) {
+        Set<Long> removed = Set.copyOf(courseIds);
+        afterCommit(() -> replace(removed, List.of()));
+    }
+
+    // Copy-on-write: drop the courses' old keys and merge in the new ones, O(n) per write
+    private synchronized void replace(Set<Long> courseIds, Collection<Entry> added) {
+        Entry[] current = entries;
+        Entry[] additions = added.toArray(new Entry[0]);
+        Arrays.sort(additions, BY_KEY);
+
+        Entry[] merged = new Entry[current.length + additions.length];
+        int size = 0;
+        int next = 0;
+        for (Entry entry : current) {
+            if (courseIds.contains(entry.course().getId())) {
+                continue;
+            }
+            while (next < additions.length && BY_KEY.compare(additions[next], entry) < 0) {
+                merged[size++] = additions[next++];
+            }
+            merged[size++] = entry;
+        }
+        while (next < additions.length) {
+            merged[size++] = additions[next++];
+        }
+        entries = Arrays.copyOf(merged, size);
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static void addKeys(CourseSuggestionDTO course, List<Entry> keys) {
+        String code = normalize(course.getCode());
+        if (!code.isEmpty()) {
+            keys.add(new Entry(code, course));
+        }
+        String name = normalize(course.getName());
+        int start = name.isEmpty() ? -1 : 0;
+        while (start >= 0) {
+            String suffix = name.substring(start);
+            if (!suffix.equals(code)) {
+                keys.add(new Entry(suffix, course));
+            }
+            int space = name.indexOf(' ', start);
+            start = space < 0 ? -1 : space + 1;
+        }
+    }
+
+    private static int lowerBound(Entry[] snapshot, String key) {
+        int low = 0;
+        int high = snapshot.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (snapshot[mid].key().compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.strip().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,41 +1,84 @@
 package com.example.webapp.service;
 
-import com.example.webapp.entity.User;
+import com.example.webapp.dto.UserAccountDTO;
 import com.example.webapp.repository.UserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
-    @Autowired
-    private UserRepository userRepository;
+    private final UserRepository userRepository;
+
+    // Unknown usernames are not cached, so a new signup can log in immediately
+    private final Cache<String, UserAccountDTO> accounts;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${app.security.principal-cache.max-size:10000}") long maxSize,
+                                    @Value("${app.security.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
+        UserAccountDTO account = findAccount(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                user.isEnabled(),
-                true,
-                true,
-                true,
-                getAuthorities(user)
+        // A fresh principal per call: Spring Security erases its credentials after authentication
+        return new AuthenticatedUser(
+                account.getId(),
+                account.getUsername(),
+                account.getPasswordHash(),
+                account.isEnabled(),
+                getAuthorities(account),
+                account.getStudentId(),
+                account.getTeacherId()
         );
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+    public Optional<UserAccountDTO> findAccount(String username) {
+        // A null result from the loader is not stored
+        return Optional.ofNullable(accounts.get(username,
+                key -> userRepository.findAccountByUsername(key).orElse(null)));
+    }
+
+    // Must be called whenever the password, role, enabled flag or linked student/teacher changes.
+    // Inside a transaction the entry is dropped after commit, so a concurrent login cannot re-cache the old row
+    public void evict(String username) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    accounts.invalidate(username);
+                }
+            });
+        }
+        accounts.invalidate(username);
+    }
+
+    public void evictAll() {
+        accounts.invalidateAll();
+    }
+
+    private Collection<? extends GrantedAuthority> getAuthorities(UserAccountDTO account) {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + account.getRole().name()));
     }
 }
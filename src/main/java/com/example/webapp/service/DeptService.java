@@ -1,9 +1,12 @@
 package com.example.webapp.service;
 
+import com.example.webapp.dto.DeptSummaryDTO;
 import com.example.webapp.entity.Dept;
+import com.example.webapp.repository.CourseRepository;
 import com.example.webapp.repository.DeptRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +17,13 @@ public class DeptService {
     @Autowired
     private DeptRepository deptRepository;
 
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CourseSuggestionIndex suggestionIndex;
+
+    @Transactional(readOnly = true)
     public List<Dept> getAllDepartments() {
         return deptRepository.findAll();
     }
@@ -22,12 +32,37 @@ public class DeptService {
         return deptRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<DeptSummaryDTO> getAllDepartmentSummaries() {
+        return deptRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<DeptSummaryDTO> getDepartmentSummary(Long id) {
+        return deptRepository.findSummaryById(id);
+    }
+
+    // ETags for the department API; a conditional GET that matches never loads the departments
+    @Transactional(readOnly = true)
+    public String getDepartmentsEtag() {
+        return deptRepository.findCollectionVersion().toEtag();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> getDepartmentEtag(Long id) {
+        return deptRepository.findVersionById(id).map(version -> id + "-" + version);
+    }
+
     public Dept saveDepartment(Dept dept) {
         return deptRepository.save(dept);
     }
 
+    // The department's courses go with it (cascade), so they leave the typeahead as well
+    @Transactional
     public void deleteDepartment(Long id) {
+        List<Long> courseIds = courseRepository.findIdsByDeptId(id);
         deptRepository.deleteById(id);
+        suggestionIndex.removeAll(courseIds);
     }
 
     public Optional<Dept> findByName(String name) {
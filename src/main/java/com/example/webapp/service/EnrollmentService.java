@@ -0,0 +1,72 @@
+package com.example.webapp.service;
+
+import com.example.webapp.config.ReadYourWritesTracker;
+import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.StudentRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class EnrollmentService {
+
+    public enum Result {
+        ENROLLED,
+        ALREADY_ENROLLED,
+        COURSE_FULL,
+        UNENROLLED,
+        NOT_ENROLLED,
+        COURSE_NOT_FOUND
+    }
+
+    private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public EnrollmentService(StudentRepository studentRepository, CourseRepository courseRepository,
+                             ReadYourWritesTracker readYourWritesTracker) {
+        this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    /**
+     * Inserts the join row first and then takes a seat with a conditional update, so the
+     * course row is locked only for the tail of the transaction. If no seat is left the
+     * join row is deleted again within the same transaction.
+     */
+    @Transactional
+    public Result enroll(Long studentId, Long courseId) {
+        if (studentRepository.insertEnrollment(studentId, courseId) == 0) {
+            // Only a zero-row insert needs the lookup to tell a missing course from an existing enrollment
+            return courseRepository.existsById(courseId) ? Result.ALREADY_ENROLLED : Result.COURSE_NOT_FOUND;
+        }
+        if (courseRepository.reserveSeat(courseId) == 0) {
+            studentRepository.deleteEnrollment(studentId, courseId);
+            return Result.COURSE_FULL;
+        }
+        // The student's next pages must show the new enrollment even if a replica lags behind
+        readYourWritesTracker.recordWrite(studentId);
+        return Result.ENROLLED;
+    }
+
+    @Transactional
+    public Result unenroll(Long studentId, Long courseId) {
+        if (studentRepository.deleteEnrollment(studentId, courseId) == 0) {
+            return Result.NOT_ENROLLED;
+        }
+        courseRepository.releaseSeat(courseId);
+        readYourWritesTracker.recordWrite(studentId);
+        return Result.UNENROLLED;
+    }
+
+    /**
+     * Recounts every seat counter from student_course. Run on demand from the admin API, not at
+     * startup: the course rows are locked first, so enrollments already past their join-row write
+     * apply their counter update after the recount instead of being overwritten by it.
+     */
+    @Transactional
+    public int reconcileSeatCounts() {
+        courseRepository.lockAllForSeatUpdate();
+        return courseRepository.reconcileSeatCounts();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.webapp.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PasswordResetTokenSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordResetTokenSweeper.class);
+
+    private final UserService userService;
+
+    public PasswordResetTokenSweeper(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Scheduled(initialDelayString = "${app.security.reset-token.sweep-interval:PT15M}",
+               fixedDelayString = "${app.security.reset-token.sweep-interval:PT15M}")
+    public void purgeExpiredTokens() {
+        int purged = userService.purgeExpiredResetTokens();
+        if (purged > 0) {
+            log.info("Purged {} expired password reset token(s)", purged);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.webapp.service;
+
+import com.example.webapp.config.PasswordHashingBusyException;
+import com.example.webapp.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PasswordUpgradeService {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordUpgradeService.class);
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+    private final TaskExecutor passwordUpgradeExecutor;
+
+    public PasswordUpgradeService(UserRepository userRepository,
+                                  PasswordEncoder passwordEncoder,
+                                  CustomUserDetailsService userDetailsService,
+                                  @Qualifier("passwordUpgradeExecutor") TaskExecutor passwordUpgradeExecutor) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userDetailsService = userDetailsService;
+        this.passwordUpgradeExecutor = passwordUpgradeExecutor;
+    }
+
+    // Skipped upgrades are harmless: the old hash still verifies and the next login tries again
+    public void upgradeLater(String username, String rawPassword, String currentHash) {
+        try {
+            passwordUpgradeExecutor.execute(() -> upgrade(username, rawPassword, currentHash));
+        } catch (TaskRejectedException e) {
+            log.debug("Password upgrade for {} skipped, upgrade queue full", username);
+        }
+    }
+
+    void upgrade(String username, String rawPassword, String currentHash) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            // Compare-and-set on the old hash, so a password reset in the meantime is never overwritten
+            if (userRepository.updatePasswordIfUnchanged(username, currentHash, newHash) == 1) {
+                userDetailsService.evict(username);
+            }
+        } catch (PasswordHashingBusyException e) {
+            log.debug("Password upgrade for {} skipped, hashing pool busy", username);
+        } catch (RuntimeException e) {
+            log.warn("Password upgrade for {} failed", username, e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.SearchPageDTO;
+import com.example.webapp.dto.SearchResultDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked search over students, teachers and courses.
+ * <p>
+ * On PostgreSQL the tables are only ever searched through the full-text GIN indexes of the V5
+ * migration, in two steps: each table hands over a bounded set of candidates in index order,
+ * and only those are ranked. Whole-word matches come first, ranked with ts_rank. If they cannot
+ * fill the page, partial words and typos follow: each word of the term is looked up in the
+ * trigram-indexed lexicon of the V7 migration, and the rows holding the word as a prefix or one
+ * of its closest lexicon words are ranked by word similarity to the term. Ranks are exact within
+ * the candidates, which cover the first pages; deeper pages widen them.
+ * <p>
+ * Other databases, H2 in tests, get a case-insensitive LIKE scan that ranks exact matches over
+ * prefixes over substrings.
+ */
+@Service
+public class SearchService {
+
+    public enum Type {
+        STUDENT("students", "name", "roll", "name", "roll", "email"),
+        TEACHER("teachers", "name", "email", "name", "email"),
+        COURSE("courses", "name", "code", "code", "name", "description");
+
+        private final String table;
+        private final String titleColumn;
+        private final String detailColumn;
+        private final List<String> searchColumns;
+
+        Type(String table, String titleColumn, String detailColumn, String... searchColumns) {
+            this.table = table;
+            this.titleColumn = titleColumn;
+            this.detailColumn = detailColumn;
+            this.searchColumns = List.of(searchColumns);
+        }
+
+        // Same expression as the V5 indexes and the V7 lexicon triggers; changing it here means a new migration
+        String document() {
+            return searchColumns.stream()
+                    .map(column -> "coalesce(" + column + ", '')")
+                    .collect(Collectors.joining(" || ' ' || "));
+        }
+
+        String tsvector() {
+            return "to_tsvector('simple', " + document() + ")";
+        }
+    }
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_TERM_LENGTH = 100;
+    // Rows per table that reach ranking at least, so the first pages rank the same candidates
+    static final int MIN_CANDIDATES = 100;
+    static final int MAX_FUZZY_WORDS = 5;
+    static final int ALTERNATIVES_PER_WORD = 3;
+
+    private static final String EXACT = "websearch_to_tsquery('simple', :term)";
+    private static final String FUZZY = "cast(:fuzzy as tsquery)";
+
+    private final EntityManager entityManager;
+    private final boolean fullTextSearch;
+
+    public SearchService(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.fullTextSearch = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * Returns one page of matches, best first. A null or empty {@code types} searches everything;
+     * a blank term matches nothing.
+     */
+    @Transactional(readOnly = true)
+    public SearchPageDTO search(String term, Set<Type> types, int page, int size) {
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String normalized = normalize(term);
+        if (normalized.isEmpty()) {
+            return new SearchPageDTO(List.of(), pageNumber, pageSize, false);
+        }
+
+        Set<Type> searched = types == null || types.isEmpty() ? EnumSet.allOf(Type.class) : EnumSet.copyOf(types);
+        int offset = pageNumber * pageSize;
+        // One row past the page shows whether there is a next one
+        List<?> rows;
+        if (fullTextSearch) {
+            List<?> window = fullTextMatches(normalized, searched, offset + pageSize + 1);
+            rows = window.subList(Math.min(offset, window.size()), window.size());
+        } else {
+            rows = likeQuery(normalized, searched).setFirstResult(offset).setMaxResults(pageSize + 1).getResultList();
+        }
+
+        List<SearchResultDTO> results = new ArrayList<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            results.add(new SearchResultDTO((String) columns[0], ((Number) columns[1]).longValue(),
+                    (String) columns[2], (String) columns[3], ((Number) columns[4]).doubleValue()));
+        }
+        boolean hasNext = results.size() > pageSize;
+        return new SearchPageDTO(hasNext ? results.subList(0, pageSize) : results, pageNumber, pageSize, hasNext);
+    }
+
+    // Whole-word matches rank at 1 + ts_rank and fuzzy ones at their word similarity, at most 1,
+    // so the fuzzy step only runs when whole words cannot fill the window
+    private List<?> fullTextMatches(String term, Set<Type> types, int window) {
+        int candidates = Math.max(window, MIN_CANDIDATES);
+        List<Object> rows = new ArrayList<>(rankedQuery(types,
+                type -> type.tsvector() + " @@ " + EXACT,
+                type -> "1 + ts_rank(" + type.tsvector() + ", " + EXACT + ")")
+                .setParameter("term", term)
+                .setParameter("candidates", candidates)
+                .setParameter("window", window)
+                .getResultList());
+        String fuzzy = rows.size() < window ? fuzzyQuery(term) : null;
+        if (fuzzy != null) {
+            rows.addAll(rankedQuery(types,
+                    type -> type.tsvector() + " @@ " + FUZZY + " and not (" + type.tsvector() + " @@ " + EXACT + ")",
+                    type -> "word_similarity(:term, " + type.document() + ")")
+                    .setParameter("term", term)
+                    .setParameter("fuzzy", fuzzy)
+                    .setParameter("candidates", candidates)
+                    .setParameter("window", window - rows.size())
+                    .getResultList());
+        }
+        return rows;
+    }
+
+    // The inner limit takes candidates in index order; only the outer query ranks, and only those
+    private Query rankedQuery(Set<Type> types, Function<Type, String> match, Function<Type, String> rank) {
+        String branches = types.stream().map(type ->
+                "(select '" + type.name() + "' as result_type, id, " + type.titleColumn + " as title, "
+                        + type.detailColumn + " as detail, " + rank.apply(type) + " as result_rank "
+                        + "from (select * from " + type.table + " where " + match.apply(type) + " limit :candidates) c "
+                        + "order by result_rank desc, id limit :window)")
+                .collect(Collectors.joining(" union all "));
+
+        return entityManager.createNativeQuery("select * from (" + branches + ") r "
+                + "order by result_rank desc, result_type, id limit :window");
+    }
+
+    // Each word of the term becomes "the word as a prefix, or one of its closest lexicon words";
+    // a word negated with '-' stays excluded. Null when the term has no words to match
+    private String fuzzyQuery(String term) {
+        List<String> included = new ArrayList<>();
+        List<String> excluded = new ArrayList<>();
+        for (String part : term.toLowerCase(Locale.ROOT).split(" ")) {
+            String word = part.replaceAll("^[^\\p{L}\\p{N}]+|[^\\p{L}\\p{N}]+$", "");
+            if (word.isEmpty() || word.equals("or")) {
+                continue;
+            }
+            List<String> target = part.startsWith("-") ? excluded : included;
+            if (!target.contains(word)) {
+                target.add(word);
+            }
+        }
+        if (included.isEmpty()) {
+            return null;
+        }
+        included = included.subList(0, Math.min(included.size(), MAX_FUZZY_WORDS));
+
+        Map<String, List<String>> similar = similarWords(included);
+        List<String> clauses = new ArrayList<>();
+        for (String word : included) {
+            List<String> alternatives = new ArrayList<>();
+            alternatives.add(lexeme(word) + ":*");
+            similar.getOrDefault(word, List.of()).forEach(alternative -> alternatives.add(lexeme(alternative)));
+            clauses.add("(" + String.join(" | ", alternatives) + ")");
+        }
+        excluded.forEach(word -> clauses.add("!" + lexeme(word)));
+        return String.join(" & ", clauses);
+    }
+
+    // One lexicon lookup for all words, served by the trigram index of search_words
+    private Map<String, List<String>> similarWords(List<String> words) {
+        List<?> rows = entityManager.createNativeQuery("select t.term_word, s.word "
+                        + "from unnest(string_to_array(:words, ' ')) as t(term_word) "
+                        + "cross join lateral (select word from search_words where t.term_word <% word "
+                        + "order by word_similarity(t.term_word, word) desc, word limit :alternatives) s")
+                .setParameter("words", String.join(" ", words))
+                .setParameter("alternatives", ALTERNATIVES_PER_WORD)
+                .getResultList();
+        Map<String, List<String>> similar = new HashMap<>();
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            similar.computeIfAbsent((String) columns[0], word -> new ArrayList<>()).add((String) columns[1]);
+        }
+        return similar;
+    }
+
+    // Quoted, so the lexeme is taken as it is: the cast to tsquery does no further parsing
+    private static String lexeme(String word) {
+        return "'" + word.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    private Query likeQuery(String term, Set<Type> types) {
+        String lowered = term.toLowerCase(Locale.ROOT);
+        String escaped = lowered.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+
+        String branches = types.stream().map(type -> {
+            String exact = type.searchColumns.stream()
+                    .map(column -> "lower(" + column + ") = :term").collect(Collectors.joining(" or "));
+            String prefix = type.searchColumns.stream()
+                    .map(column -> "lower(" + column + ") like :prefix").collect(Collectors.joining(" or "));
+            String contains = type.searchColumns.stream()
+                    .map(column -> "lower(" + column + ") like :contains").collect(Collectors.joining(" or "));
+            return "select '" + type.name() + "' as result_type, id, " + type.titleColumn + " as title, "
+                    + type.detailColumn + " as detail, "
+                    + "case when " + exact + " then 3.0 when " + prefix + " then 2.0 else 1.0 end as result_rank "
+                    + "from " + type.table + " where " + contains;
+        }).collect(Collectors.joining(" union all "));
+
+        return entityManager.createNativeQuery("select * from (" + branches + ") r "
+                        + "order by result_rank desc, result_type, id")
+                .setParameter("term", lowered)
+                .setParameter("prefix", escaped + "%")
+                .setParameter("contains", "%" + escaped + "%");
+    }
+
+    private static String normalize(String term) {
+        if (term == null) {
+            return "";
+        }
+        String collapsed = term.strip().replaceAll("\\s+", " ");
+        return collapsed.length() > MAX_TERM_LENGTH ? collapsed.substring(0, MAX_TERM_LENGTH) : collapsed;
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.EnrollmentDTO;
+import com.example.webapp.dto.StudentExportDTO;
+import com.example.webapp.entity.Dept;
+import com.example.webapp.entity.Student;
+import com.example.webapp.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class StudentExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    static final int CHUNK_SIZE = 500;
+
+    private static final String CSV_HEADER =
+            "id,name,roll,email,currentSemester,academicYear,deptId,deptName,courseIds";
+
+    private final StudentRepository studentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public StudentExportService(StudentRepository studentRepository,
+                                EntityManager entityManager,
+                                ObjectMapper objectMapper) {
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Streams every student with its enrolled course ids to {@code out}.
+     * Students are read from a database cursor and written in chunks; the persistence
+     * context is cleared after each chunk so memory use does not grow with the table.
+     * The caller owns {@code out} and is responsible for closing it.
+     *
+     * @return the number of students written
+     */
+    @Transactional(readOnly = true)
+    public long exportStudents(Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long written = 0;
+        List<Student> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<Student> students = studentRepository.streamAllForExport()) {
+            Iterator<Student> iterator = students.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    written += writeChunk(chunk, format, writer);
+                    chunk.clear();
+                }
+            }
+            written += writeChunk(chunk, format, writer);
+        }
+        writer.flush();
+        return written;
+    }
+
+    private int writeChunk(List<Student> chunk, Format format, Writer writer) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        // One query per chunk for the join rows instead of touching each lazy enrolledCourses set
+        List<Long> studentIds = chunk.stream().map(Student::getId).toList();
+        Map<Long, List<Long>> courseIdsByStudent = new HashMap<>();
+        for (EnrollmentDTO enrollment : studentRepository.findEnrollmentsByStudentIds(studentIds)) {
+            courseIdsByStudent.computeIfAbsent(enrollment.getStudentId(), id -> new ArrayList<>())
+                    .add(enrollment.getCourseId());
+        }
+
+        for (Student student : chunk) {
+            StudentExportDTO row = toExportRow(student,
+                    courseIdsByStudent.getOrDefault(student.getId(), Collections.emptyList()));
+            if (format == Format.CSV) {
+                writer.write(toCsvLine(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+            }
+            writer.write('\n');
+        }
+        writer.flush();
+
+        entityManager.clear();
+        return chunk.size();
+    }
+
+    private StudentExportDTO toExportRow(Student student, List<Long> courseIds) {
+        Dept dept = student.getDept();
+        return new StudentExportDTO(
+                student.getId(),
+                student.getName(),
+                student.getRoll(),
+                student.getEmail(),
+                student.getCurrentSemester(),
+                student.getAcademicYear(),
+                dept != null ? dept.getId() : null,
+                dept != null ? dept.getName() : null,
+                courseIds
+        );
+    }
+
+    private String toCsvLine(StudentExportDTO row) {
+        String courseIds = row.getCourseIds().stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(";"));
+        return String.join(",",
+                csv(row.getId()),
+                csv(row.getName()),
+                csv(row.getRoll()),
+                csv(row.getEmail()),
+                csv(row.getCurrentSemester()),
+                csv(row.getAcademicYear()),
+                csv(row.getDeptId()),
+                csv(row.getDeptName()),
+                csv(courseIds));
+    }
+
+    static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
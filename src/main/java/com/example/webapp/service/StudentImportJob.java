@@ -0,0 +1,123 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.ImportRowErrorDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one CSV import. Counters are updated by the import worker
+ * and read concurrently by the status endpoints.
+ */
+public class StudentImportJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    static final int STATUS_ERROR_LIMIT = 100;
+
+    private final String id;
+    private final String fileName;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong importedRows = new AtomicLong();
+    private final List<ImportRowErrorDTO> errors = Collections.synchronizedList(new ArrayList<>());
+
+    private volatile Status status = Status.QUEUED;
+    private volatile String failureMessage;
+    private volatile LocalDateTime finishedAt;
+
+    public StudentImportJob(String id, String fileName) {
+        this.id = id;
+        this.fileName = fileName;
+    }
+
+    void markRunning() {
+        status = Status.RUNNING;
+    }
+
+    void markCompleted() {
+        finishedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void markFailed(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    void rowProcessed() {
+        processedRows.incrementAndGet();
+    }
+
+    void rowsImported(int count) {
+        importedRows.addAndGet(count);
+    }
+
+    void rowFailed(long rowNumber, String roll, String message) {
+        errors.add(new ImportRowErrorDTO(rowNumber, roll, message));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public long getProcessedRows() {
+        return processedRows.get();
+    }
+
+    public long getImportedRows() {
+        return importedRows.get();
+    }
+
+    public long getFailedRows() {
+        return errors.size();
+    }
+
+    // Status responses carry only the first errors; the full list is served as a CSV report
+    public List<ImportRowErrorDTO> getFirstErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors.subList(0, Math.min(errors.size(), STATUS_ERROR_LIMIT)));
+        }
+    }
+
+    @JsonIgnore
+    public List<ImportRowErrorDTO> getErrors() {
+        synchronized (errors) {
+            return new ArrayList<>(errors);
+        }
+    }
+}
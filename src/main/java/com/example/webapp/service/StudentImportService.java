@@ -0,0 +1,271 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.DeptSummaryDTO;
+import com.example.webapp.dto.ImportRowErrorDTO;
+import com.example.webapp.entity.Student;
+import com.example.webapp.repository.DeptRepository;
+import com.example.webapp.repository.StudentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+public class StudentImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentImportService.class);
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_RETAINED_JOBS = 20;
+
+    static final List<String> HEADER =
+            List.of("name", "roll", "email", "currentSemester", "academicYear", "department");
+
+    private final StudentRepository studentRepository;
+    private final DeptRepository deptRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor importExecutor;
+
+    private final Map<String, StudentImportJob> jobs = new LinkedHashMap<>();
+
+    public StudentImportService(StudentRepository studentRepository,
+                                DeptRepository deptRepository,
+                                TransactionTemplate transactionTemplate,
+                                @Qualifier("importExecutor") TaskExecutor importExecutor) {
+        this.studentRepository = studentRepository;
+        this.deptRepository = deptRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.importExecutor = importExecutor;
+    }
+
+    /**
+     * Spools the upload to a temporary file and queues it for background import.
+     * Poll the returned job for progress.
+     */
+    public StudentImportJob startImport(String fileName, InputStream content) throws IOException {
+        Path spool = Files.createTempFile("student-import-", ".csv");
+        Files.copy(content, spool, StandardCopyOption.REPLACE_EXISTING);
+
+        StudentImportJob job = new StudentImportJob(UUID.randomUUID().toString(), fileName);
+        registerJob(job);
+        Runnable task = () -> {
+            try (Reader reader = Files.newBufferedReader(spool, StandardCharsets.UTF_8)) {
+                importStudents(job, reader);
+            } catch (Exception e) {
+                log.error("Student import {} failed", job.getId(), e);
+                job.markFailed(e.getMessage());
+            } finally {
+                try {
+                    Files.deleteIfExists(spool);
+                } catch (IOException e) {
+                    log.warn("Could not delete import spool file {}", spool, e);
+                }
+            }
+        };
+
+        try {
+            importExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            job.markFailed("Too many imports are running, please try again later");
+            Files.deleteIfExists(spool);
+        }
+        return job;
+    }
+
+    public Optional<StudentImportJob> getJob(String id) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(id));
+        }
+    }
+
+    /**
+     * Imports students from CSV on the calling thread. Rows are validated as they are read,
+     * checked against existing rolls one chunk at a time and inserted one transaction per chunk.
+     */
+    public void importStudents(StudentImportJob job, Reader source) throws IOException {
+        job.markRunning();
+        CsvRecordReader csv = new CsvRecordReader(source instanceof BufferedReader ? source : new BufferedReader(source));
+
+        List<String> header = csv.readRecord();
+        if (header == null || !HEADER.equals(header.stream().map(String::trim).toList())) {
+            job.markFailed("Expected header: " + String.join(",", HEADER));
+            return;
+        }
+
+        // Departments are a small reference table, so resolve names from a single query up front
+        Map<String, Long> deptIdsByName = new HashMap<>();
+        for (DeptSummaryDTO dept : deptRepository.findAllSummaries()) {
+            deptIdsByName.put(dept.getName().trim().toLowerCase(Locale.ROOT), dept.getId());
+        }
+
+        Set<String> rollsInFile = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        long rowNumber = 1;
+        List<String> fields;
+        while ((fields = csv.readRecord()) != null) {
+            rowNumber++;
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            job.rowProcessed();
+            ImportRow row = parseRow(job, rowNumber, fields, deptIdsByName, rollsInFile);
+            if (row != null) {
+                chunk.add(row);
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+        }
+        writeChunk(job, chunk);
+        job.markCompleted();
+    }
+
+    public void writeErrorReport(StudentImportJob job, Writer writer) throws IOException {
+        writer.write("rowNumber,roll,message\n");
+        List<ImportRowErrorDTO> errors = job.getErrors();
+        errors.sort(Comparator.comparingLong(ImportRowErrorDTO::getRowNumber));
+        for (ImportRowErrorDTO error : errors) {
+            writer.write(error.getRowNumber() + ","
+                    + StudentExportService.csv(error.getRoll()) + ","
+                    + StudentExportService.csv(error.getMessage()) + "\n");
+        }
+        writer.flush();
+    }
+
+    private ImportRow parseRow(StudentImportJob job, long rowNumber, List<String> fields,
+                               Map<String, Long> deptIdsByName, Set<String> rollsInFile) {
+        if (fields.size() != HEADER.size()) {
+            job.rowFailed(rowNumber, null, "Expected " + HEADER.size() + " columns but found " + fields.size());
+            return null;
+        }
+
+        String name = fields.get(0).trim();
+        String roll = fields.get(1).trim();
+        String email = fields.get(2).trim();
+        String semester = fields.get(3).trim();
+        String academicYear = fields.get(4).trim();
+        String deptName = fields.get(5).trim();
+
+        if (name.isEmpty() || roll.isEmpty()) {
+            job.rowFailed(rowNumber, roll, "Name and roll are required");
+            return null;
+        }
+        if (!rollsInFile.add(roll)) {
+            job.rowFailed(rowNumber, roll, "Duplicate roll in file");
+            return null;
+        }
+
+        Integer currentSemester = null;
+        if (!semester.isEmpty()) {
+            try {
+                currentSemester = Integer.valueOf(semester);
+            } catch (NumberFormatException e) {
+                job.rowFailed(rowNumber, roll, "Invalid semester: " + semester);
+                return null;
+            }
+        }
+
+        Long deptId = null;
+        if (!deptName.isEmpty()) {
+            deptId = deptIdsByName.get(deptName.toLowerCase(Locale.ROOT));
+            if (deptId == null) {
+                job.rowFailed(rowNumber, roll, "Unknown department: " + deptName);
+                return null;
+            }
+        }
+
+        return new ImportRow(rowNumber, name, roll, email.isEmpty() ? null : email,
+                currentSemester, academicYear.isEmpty() ? null : academicYear, deptId);
+    }
+
+    private void writeChunk(StudentImportJob job, List<ImportRow> chunk) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        Set<String> existingRolls = new HashSet<>(
+                studentRepository.findExistingRolls(chunk.stream().map(ImportRow::roll).toList()));
+        List<ImportRow> fresh = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existingRolls.contains(row.roll())) {
+                job.rowFailed(row.rowNumber(), row.roll(), "Roll already exists");
+            } else {
+                fresh.add(row);
+            }
+        }
+
+        try {
+            insert(fresh);
+            job.rowsImported(fresh.size());
+        } catch (RuntimeException e) {
+            // A concurrent writer may have taken a roll since the check; isolate the offending rows
+            log.warn("Chunk insert failed for import {}, retrying row by row", job.getId(), e);
+            for (ImportRow row : fresh) {
+                try {
+                    insert(List.of(row));
+                    job.rowsImported(1);
+                } catch (RuntimeException rowFailure) {
+                    job.rowFailed(row.rowNumber(), row.roll(), "Insert failed: " + rowFailure.getMessage());
+                }
+            }
+        }
+    }
+
+    private void insert(List<ImportRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Student> students = new ArrayList<>(rows.size());
+            for (ImportRow row : rows) {
+                Student student = new Student(row.name(), row.roll(), row.email());
+                student.setCurrentSemester(row.currentSemester());
+                student.setAcademicYear(row.academicYear());
+                if (row.deptId() != null) {
+                    student.setDept(deptRepository.getReferenceById(row.deptId()));
+                }
+                students.add(student);
+            }
+            studentRepository.saveAll(students);
+            studentRepository.flush();
+        });
+    }
+
+    private void registerJob(StudentImportJob job) {
+        synchronized (jobs) {
+            if (jobs.size() >= MAX_RETAINED_JOBS) {
+                jobs.values().stream()
+                        .filter(StudentImportJob::isFinished)
+                        .findFirst()
+                        .ifPresent(oldest -> jobs.remove(oldest.getId()));
+            }
+            jobs.put(job.getId(), job);
+        }
+    }
+
+    private record ImportRow(long rowNumber, String name, String roll, String email,
+                             Integer currentSemester, String academicYear, Long deptId) {
+    }
+}
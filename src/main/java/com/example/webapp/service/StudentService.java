@@ -1,21 +1,39 @@
 package com.example.webapp.service;
 
+import com.example.webapp.dto.CursorPageDTO;
+import com.example.webapp.dto.StudentSummaryDTO;
 import com.example.webapp.entity.Student;
+import com.example.webapp.repository.CourseRepository;
 import com.example.webapp.repository.StudentRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class StudentService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private static final String CURSOR_PREFIX = "student:";
+
     private final StudentRepository studentRepository;
+    private final CourseRepository courseRepository;
+    private final CustomUserDetailsService userDetailsService;
 
-    public StudentService(StudentRepository studentRepository) {
+    public StudentService(StudentRepository studentRepository, CourseRepository courseRepository,
+                          CustomUserDetailsService userDetailsService) {
         this.studentRepository = studentRepository;
+        this.courseRepository = courseRepository;
+        this.userDetailsService = userDetailsService;
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         return studentRepository.findAll();
     }
@@ -24,15 +42,62 @@ public class StudentService {
         return studentRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<StudentSummaryDTO> getStudentSummary(Long id) {
+        return studentRepository.findSummaryById(id);
+    }
+
     public Student saveStudent(Student student) {
         return studentRepository.save(student);
     }
 
+    // The student's join rows go with it, so its seats are released in the same transaction.
+    // The login keeps working but must no longer resolve to the deleted student
+    @Transactional
     public void deleteStudent(Long id) {
+        studentRepository.findUsernameById(id).ifPresent(userDetailsService::evict);
+        courseRepository.releaseSeatsOfStudent(id);
         studentRepository.deleteById(id);
     }
 
     public Optional<Student> findByRoll(String roll) {
         return studentRepository.findByRoll(roll);
     }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<StudentSummaryDTO> getStudentPage(String after, Integer limit, Long deptId,
+                                                           Integer semester, String academicYear) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query
+        List<StudentSummaryDTO> rows = studentRepository.findPageAfter(
+                decodeCursor(after), deptId, semester, academicYear, Limit.of(pageSize + 1));
+
+        if (rows.size() <= pageSize) {
+            return new CursorPageDTO<>(rows, null);
+        }
+        List<StudentSummaryDTO> items = rows.subList(0, pageSize);
+        return new CursorPageDTO<>(items, encodeCursor(items.get(pageSize - 1).getId()));
+    }
+
+    static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((CURSOR_PREFIX + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(CURSOR_PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(decoded.substring(CURSOR_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // Also covers malformed Base64 and NumberFormatException
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
 }
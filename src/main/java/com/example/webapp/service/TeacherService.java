@@ -1,9 +1,11 @@
 package com.example.webapp.service;
 
+import com.example.webapp.dto.TeacherSummaryDTO;
 import com.example.webapp.entity.Teacher;
 import com.example.webapp.repository.TeacherRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,6 +16,10 @@ public class TeacherService {
     @Autowired
     private TeacherRepository teacherRepository;
 
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Transactional(readOnly = true)
     public List<Teacher> getAllTeachers() {
         return teacherRepository.findAll();
     }
@@ -22,14 +28,28 @@ public class TeacherService {
         return teacherRepository.findById(id);
     }
 
+    @Transactional(readOnly = true)
+    public List<TeacherSummaryDTO> getAllTeacherSummaries() {
+        return teacherRepository.findAllSummaries();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TeacherSummaryDTO> getTeacherSummary(Long id) {
+        return teacherRepository.findSummaryById(id);
+    }
+
     public Teacher saveTeacher(Teacher teacher) {
         return teacherRepository.save(teacher);
     }
 
+    // The login keeps working but must no longer resolve to the deleted teacher
+    @Transactional
     public void deleteTeacher(Long id) {
+        teacherRepository.findUsernameById(id).ifPresent(userDetailsService::evict);
         teacherRepository.deleteById(id);
     }
 
+    @Transactional(readOnly = true)
     public List<Teacher> getTeachersByDept(Long deptId) {
         return teacherRepository.findByDeptId(deptId);
     }
@@ -1,22 +1,36 @@
 package com.example.webapp.service;
 
+import com.example.webapp.dto.ResetTokenOwnerDTO;
+import com.example.webapp.entity.PasswordResetToken;
 import com.example.webapp.entity.Role;
 import com.example.webapp.entity.Student;
 import com.example.webapp.entity.Teacher;
 import com.example.webapp.entity.User;
+import com.example.webapp.repository.PasswordResetTokenRepository;
 import com.example.webapp.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
 import java.util.Optional;
-import java.util.UUID;
 
 @Service
 public class UserService {
 
+    private static final Duration RESET_TOKEN_TTL = Duration.ofHours(1);
+    private static final int RESET_TOKEN_BYTES = 32;
+    private static final int RESET_TOKEN_PURGE_BATCH = 500;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -29,6 +43,17 @@ public class UserService {
     @Autowired
     private TeacherService teacherService;
 
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PasswordResetTokenRepository resetTokenRepository;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
@@ -45,85 +70,124 @@ public class UserService {
         return userRepository.existsByEmail(email);
     }
 
-    @Transactional
+    // Passwords are hashed before the transaction starts, so no connection is held while waiting for a hashing worker
     public User registerStudent(String username, String email, String password, String name, String roll) {
-        User user = new User();
-        user.setUsername(username);
-        user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
-        user.setRole(Role.STUDENT);
-        user.setEnabled(true);
-
-        User savedUser = userRepository.save(user);
-
-        // Create associated Student entity
-        Student student = new Student();
-        student.setName(name);
-        student.setRoll(roll);
-        student.setEmail(email);
-        student.setUser(savedUser);
-        studentService.saveStudent(student);
-
-        return savedUser;
+        String passwordHash = passwordEncoder.encode(password);
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setUsername(username);
+            user.setEmail(email);
+            user.setPassword(passwordHash);
+            user.setRole(Role.STUDENT);
+            user.setEnabled(true);
+
+            User savedUser = userRepository.save(user);
+
+            // Create associated Student entity
+            Student student = new Student();
+            student.setName(name);
+            student.setRoll(roll);
+            student.setEmail(email);
+            student.setUser(savedUser);
+            studentService.saveStudent(student);
+
+            return savedUser;
+        });
     }
 
-    @Transactional
     public User registerTeacher(String username, String email, String password, String name, String phone) {
-        User user = new User();
-        user.setUsername(username);
-        user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
-        user.setRole(Role.TEACHER);
-        user.setEnabled(true);
-
-        User savedUser = userRepository.save(user);
-
-        // Create associated Teacher entity
-        Teacher teacher = new Teacher();
-        teacher.setName(name);
-        teacher.setEmail(email);
-        teacher.setPhone(phone);
-        teacher.setUser(savedUser);
-        teacherService.saveTeacher(teacher);
-
-        return savedUser;
+        String passwordHash = passwordEncoder.encode(password);
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setUsername(username);
+            user.setEmail(email);
+            user.setPassword(passwordHash);
+            user.setRole(Role.TEACHER);
+            user.setEnabled(true);
+
+            User savedUser = userRepository.save(user);
+
+            // Create associated Teacher entity
+            Teacher teacher = new Teacher();
+            teacher.setName(name);
+            teacher.setEmail(email);
+            teacher.setPhone(phone);
+            teacher.setUser(savedUser);
+            teacherService.saveTeacher(teacher);
+
+            return savedUser;
+        });
     }
 
+    @Transactional
     public String generateResetToken(String email) {
         Optional<User> userOpt = userRepository.findByEmail(email);
         if (userOpt.isPresent()) {
             User user = userOpt.get();
-            String token = UUID.randomUUID().toString();
-            user.setResetToken(token);
-            user.setResetTokenExpiry(LocalDateTime.now().plusHours(1));
-            userRepository.save(user);
+            // Only the most recent link stays valid
+            resetTokenRepository.deleteByUserId(user.getId());
+
+            byte[] random = new byte[RESET_TOKEN_BYTES];
+            secureRandom.nextBytes(random);
+            String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+            resetTokenRepository.save(new PasswordResetToken(hashResetToken(token), user,
+                    LocalDateTime.now().plus(RESET_TOKEN_TTL)));
             return token;
         }
         return null;
     }
 
     public boolean validateResetToken(String token) {
-        Optional<User> userOpt = userRepository.findByResetToken(token);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            return user.getResetTokenExpiry().isAfter(LocalDateTime.now());
-        }
-        return false;
+        return token != null
+                && resetTokenRepository.existsByTokenHashAndExpiresAtAfter(hashResetToken(token), LocalDateTime.now());
     }
 
-    @Transactional
+    // Three statements: the owner lookup doubles as the token check, so an invalid link costs one query
+    // and no hashing; the delete and the password update then share one short transaction
     public boolean resetPassword(String token, String newPassword) {
-        Optional<User> userOpt = userRepository.findByResetToken(token);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            if (user.getResetTokenExpiry().isAfter(LocalDateTime.now())) {
-                user.setPassword(passwordEncoder.encode(newPassword));
-                user.setResetToken(null);
-                user.setResetTokenExpiry(null);
-                userRepository.save(user);
-                return true;
+        if (token == null) {
+            return false;
+        }
+        String tokenHash = hashResetToken(token);
+        Optional<ResetTokenOwnerDTO> owner = resetTokenRepository.findOwnerByTokenHash(tokenHash, LocalDateTime.now());
+        if (owner.isEmpty()) {
+            return false;
+        }
+        String passwordHash = passwordEncoder.encode(newPassword);
+
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            // Deleting the row enforces single use: of two concurrent resets only one deletes it
+            if (resetTokenRepository.deleteUnexpired(tokenHash, LocalDateTime.now()) == 0) {
+                return false;
             }
+            userRepository.updatePassword(owner.get().getUserId(), passwordHash);
+            userDetailsService.evict(owner.get().getUsername());
+            return true;
+        }));
+    }
+
+    public int purgeExpiredResetTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = resetTokenRepository.deleteExpiredBatch(now, RESET_TOKEN_PURGE_BATCH);
+            total += deleted;
+        } while (deleted == RESET_TOKEN_PURGE_BATCH);
+        return total;
+    }
+
+    static String hashResetToken(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return false;
+    }
+
+    // Drops the cached login record after changes made through the student or teacher services
+    public void evictCachedAccount(String username) {
+        userDetailsService.evict(username);
     }
 }
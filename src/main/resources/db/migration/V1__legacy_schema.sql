@@ -0,0 +1,91 @@
+-- The schema as the application created it with ddl-auto: update, before Flyway took over.
+-- Such databases are adopted as version 1 (baseline-on-migrate) and V2 onwards upgrade them; new
+-- databases run this file first and take the same path. Written to run unchanged on PostgreSQL
+-- and on H2 in PostgreSQL mode.
+-- Adopted databases carry Hibernate-generated constraint names instead of the ones below, so later
+-- migrations must not refer to constraints by name.
+
+create table users (
+    id                 bigint generated by default as identity,
+    username           varchar(255) not null,
+    email              varchar(255) not null,
+    password           varchar(255) not null,
+    role               varchar(255) not null,
+    enabled            boolean      not null,
+    reset_token        varchar(255),
+    reset_token_expiry timestamp(6),
+    created_at         timestamp(6),
+    constraint pk_users primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email),
+    constraint ck_users_role check (role in ('ADMIN', 'STUDENT', 'TEACHER'))
+);
+
+create table departments (
+    id          bigint generated by default as identity,
+    name        varchar(255) not null,
+    description varchar(255),
+    constraint pk_departments primary key (id),
+    constraint uk_departments_name unique (name)
+);
+
+create table teachers (
+    id          bigint generated by default as identity,
+    name        varchar(255) not null,
+    email       varchar(255),
+    phone       varchar(255),
+    user_id     bigint,
+    dept_id     bigint,
+    constraint pk_teachers primary key (id),
+    constraint uk_teachers_email unique (email),
+    constraint uk_teachers_user_id unique (user_id),
+    constraint fk_teachers_user foreign key (user_id) references users (id),
+    constraint fk_teachers_dept foreign key (dept_id) references departments (id)
+);
+
+create table students (
+    id               bigint generated by default as identity,
+    name             varchar(255) not null,
+    roll             varchar(255),
+    email            varchar(255),
+    current_semester integer,
+    academic_year    varchar(255),
+    user_id          bigint,
+    dept_id          bigint,
+    constraint pk_students primary key (id),
+    constraint uk_students_roll unique (roll),
+    constraint uk_students_user_id unique (user_id),
+    constraint fk_students_user foreign key (user_id) references users (id),
+    constraint fk_students_dept foreign key (dept_id) references departments (id)
+);
+
+create table courses (
+    id          bigint generated by default as identity,
+    name        varchar(255) not null,
+    code        varchar(255),
+    description varchar(255),
+    credits     integer,
+    dept_id     bigint,
+    created_by  bigint,
+    constraint pk_courses primary key (id),
+    constraint uk_courses_code unique (code),
+    constraint fk_courses_dept foreign key (dept_id) references departments (id),
+    constraint fk_courses_created_by foreign key (created_by) references teachers (id)
+);
+
+-- Primary keys lead with the owning side; the reverse indexes are added in V4
+create table student_course (
+    student_id  bigint not null,
+    course_id   bigint not null,
+    constraint pk_student_course primary key (student_id, course_id),
+    constraint fk_student_course_student foreign key (student_id) references students (id),
+    constraint fk_student_course_course foreign key (course_id) references courses (id)
+);
+
+create table teacher_student (
+    teacher_id  bigint not null,
+    student_id  bigint not null,
+    constraint pk_teacher_student primary key (teacher_id, student_id),
+    constraint fk_teacher_student_teacher foreign key (teacher_id) references teachers (id),
+    constraint fk_teacher_student_student foreign key (student_id) references students (id)
+);
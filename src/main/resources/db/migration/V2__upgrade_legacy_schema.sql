@@ -0,0 +1,35 @@
+-- Brings the version 1 schema to the current mappings. Runs on existing data, so every new
+-- not-null column gets a default or a backfill.
+
+-- Ids move from identity columns to per-table sequences that hand out blocks of 50
+-- (IdAllocation.SIZE), so Hibernate can batch inserts. V3 moves each sequence past the ids
+-- already in use.
+alter table users alter column id drop identity;
+alter table departments alter column id drop identity;
+alter table teachers alter column id drop identity;
+alter table students alter column id drop identity;
+alter table courses alter column id drop identity;
+
+create sequence departments_seq start with 1 increment by 50;
+create sequence teachers_seq start with 1 increment by 50;
+create sequence students_seq start with 1 increment by 50;
+create sequence courses_seq start with 1 increment by 50;
+create sequence users_seq start with 1 increment by 50;
+
+-- Enrollment limits: existing courses stay unlimited and start from their current enrollments
+alter table courses add column capacity integer;
+alter table courses add column seats_taken integer default 0 not null;
+update courses set seats_taken = (select count(*) from student_course sc where sc.course_id = courses.id);
+
+-- Reset tokens are stored hashed in their own table. Outstanding plain-text tokens are dropped
+-- rather than carried over; they expire within the hour anyway and users can request a new link.
+create table password_reset_tokens (
+    token_hash  varchar(64)  not null,
+    user_id     bigint       not null,
+    expires_at  timestamp(6) not null,
+    constraint pk_password_reset_tokens primary key (token_hash),
+    constraint fk_password_reset_tokens_user foreign key (user_id) references users (id) on delete cascade
+);
+
+alter table users drop column reset_token;
+alter table users drop column reset_token_expiry;
@@ -0,0 +1,10 @@
+-- Row versions behind the ETags of the course and department APIs. All three tables draw from
+-- one sequence, and a collection's ETag is its row count plus the sum of its versions: an update
+-- raises the sum, an insert raises both, a delete lowers both. The largest version alone would miss
+-- deletes of rows other than the newest, and commits that land out of version order.
+-- The column default covers rows inserted outside Hibernate as well.
+create sequence catalog_version_seq;
+
+alter table departments add column row_version bigint default nextval('catalog_version_seq') not null;
+alter table teachers add column row_version bigint default nextval('catalog_version_seq') not null;
+alter table courses add column row_version bigint default nextval('catalog_version_seq') not null;
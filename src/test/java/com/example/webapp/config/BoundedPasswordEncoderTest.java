@@ -0,0 +1,83 @@
+package com.example.webapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bounded Password Encoder Unit Tests")
+class BoundedPasswordEncoderTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private SimpleMeterRegistry registry;
+    private BoundedPasswordEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        // Delegate that blocks until released, so the test controls when workers free up
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "hash:" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return encode(rawPassword).equals(encodedPassword);
+            }
+        };
+        registry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(slowEncoder, 1, 1, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("Should reject immediately once the worker and queue are full")
+    void testRejectsWhenSaturated() throws Exception {
+        // Arrange - one call occupies the worker, a second waits in the queue
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        while (encoder.getStats().getQueueDepth() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Act & Assert
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        release.countDown();
+        assertEquals("hash:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash:second", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(2, encoder.getStats().getOperations());
+        assertEquals(1, encoder.getStats().getRejected());
+        assertEquals(1.0, registry.get("password.hash.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep the calibrated BCrypt strength within bounds")
+    void testCalibrationClampsStrength() {
+        assertEquals(10, SecurityConfig.calibrateStrength(Duration.ofNanos(1)));
+        assertEquals(16, SecurityConfig.calibrateStrength(Duration.ofDays(1)));
+    }
+}
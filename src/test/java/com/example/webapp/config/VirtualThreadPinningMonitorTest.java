@@ -0,0 +1,87 @@
+package com.example.webapp.config;
+
+import com.example.webapp.dto.PinnedSiteStatsDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Virtual Thread Pinning Monitor Unit Tests")
+class VirtualThreadPinningMonitorTest {
+
+    private static final List<String> DRIVER_STACK = List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:675",
+            "java.util.concurrent.locks.LockSupport.park:221",
+            "org.h2.engine.SessionLocal.waitForLock:1412",
+            "org.hibernate.engine.jdbc.internal.ResultSetReturnImpl.extract:66",
+            "com.example.webapp.service.CustomUserDetailsService.findAccount:61");
+
+    private static final List<String> POOL_STACK = List.of(
+            "java.lang.VirtualThread.parkOnCarrierThread:675",
+            "com.zaxxer.hikari.util.ConcurrentBag.borrow:151",
+            "com.zaxxer.hikari.pool.HikariPool.getConnection:181",
+            "org.hibernate.resource.jdbc.internal.LogicalConnectionManagedImpl.acquireConnectionIfNeeded:118");
+
+    private SimpleMeterRegistry registry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(new MockEnvironment(), true, Duration.ofMillis(20), registry);
+    }
+
+    @Test
+    @DisplayName("Should attribute pinning to the first frame outside the JDK")
+    void testClassifiesByFirstLibraryFrame() {
+        // Act & Assert
+        assertEquals(VirtualThreadPinningMonitor.Category.JDBC_DRIVER, VirtualThreadPinningMonitor.classify(DRIVER_STACK));
+        assertEquals(VirtualThreadPinningMonitor.Category.CONNECTION_POOL, VirtualThreadPinningMonitor.classify(POOL_STACK));
+        assertEquals(VirtualThreadPinningMonitor.Category.HIBERNATE, VirtualThreadPinningMonitor.classify(List.of(
+                "jdk.internal.misc.Unsafe.park", "org.hibernate.internal.SessionImpl.find:2400")));
+        assertEquals(VirtualThreadPinningMonitor.Category.APPLICATION, VirtualThreadPinningMonitor.classify(List.of(
+                "java.lang.Object.wait0", "com.example.webapp.service.StudentImportService.getJob:100")));
+        assertEquals(VirtualThreadPinningMonitor.Category.OTHER, VirtualThreadPinningMonitor.classify(List.of()));
+    }
+
+    @Test
+    @DisplayName("Should aggregate events per site, longest total first, and record the timer")
+    void testAggregatesPerSite() {
+        // Act
+        monitor.record(DRIVER_STACK, Duration.ofMillis(30));
+        monitor.record(DRIVER_STACK, Duration.ofMillis(50));
+        monitor.record(POOL_STACK, Duration.ofMillis(200));
+
+        // Assert
+        List<PinnedSiteStatsDTO> stats = monitor.getStats();
+        assertEquals(2, stats.size());
+        assertEquals("com.zaxxer.hikari.util.ConcurrentBag.borrow:151", stats.get(0).getSite());
+
+        PinnedSiteStatsDTO driver = stats.get(1);
+        assertEquals("org.h2.engine.SessionLocal.waitForLock:1412", driver.getSite());
+        assertEquals("JDBC_DRIVER", driver.getCategory());
+        assertEquals(2, driver.getEvents());
+        assertEquals(80.0, driver.getTotalMs(), 0.001);
+        assertEquals(50.0, driver.getMaxMs(), 0.001);
+        assertEquals(DRIVER_STACK, driver.getStackTrace());
+
+        assertEquals(2, registry.get("app.threads.pinned").tag("category", "jdbc_driver").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should stay idle when virtual threads are not enabled")
+    void testInactiveWithoutVirtualThreads() {
+        // Act
+        monitor.start();
+
+        // Assert
+        assertFalse(monitor.isEnabled());
+        assertFalse(monitor.isRunning());
+    }
+}
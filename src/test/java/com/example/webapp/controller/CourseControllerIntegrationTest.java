@@ -1,5 +1,8 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.config.SqlStatementBudgetFilter;
+import com.example.webapp.config.SqlStatementCounter;
+import com.example.webapp.dto.CourseSummaryDTO;
 import com.example.webapp.entity.Course;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Teacher;
@@ -7,9 +10,13 @@ import com.example.webapp.repository.CourseRepository;
 import com.example.webapp.repository.DeptRepository;
 import com.example.webapp.repository.TeacherRepository;
 import com.example.webapp.service.CourseService;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +42,9 @@ class CourseControllerIntegrationTest {
     @Autowired
     private TeacherRepository teacherRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Dept dept;
     private Teacher teacher;
     private Course course;
@@ -174,4 +184,62 @@ class CourseControllerIntegrationTest {
         assertEquals(initialCount - 1, courseRepository.count());
         assertFalse(courseRepository.findById(courseId).isPresent());
     }
+
+    @Test
+    @DisplayName("Should load course catalog in a single statement regardless of row count")
+    void testCourseCatalogStatementCount() {
+        // Arrange - every course gets its own department and creator
+        for (int i = 0; i < 20; i++) {
+            Dept d = new Dept();
+            d.setName("Dept " + i);
+            d = deptRepository.save(d);
+
+            Teacher t = new Teacher();
+            t.setName("Teacher " + i);
+            t.setEmail("teacher" + i + "@example.com");
+            t.setDept(d);
+            t = teacherRepository.save(t);
+
+            Course c = new Course();
+            c.setName("Course " + i);
+            c.setCode("CAT" + i);
+            c.setCredits(3);
+            c.setDept(d);
+            c.setCreatedBy(t);
+            courseRepository.save(c);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        SqlStatementCounter.reset();
+
+        // Act - read every field the courses page renders
+        List<CourseSummaryDTO> catalog = courseService.getCourseCatalog();
+        catalog.forEach(c -> {
+            c.getDeptName();
+            c.getCreatedByName();
+        });
+
+        // Assert
+        assertEquals(21, catalog.size());
+        assertEquals(1, SqlStatementCounter.count());
+        assertTrue(catalog.stream().allMatch(c -> c.getDeptName() != null && c.getCreatedByName() != null));
+    }
+
+    @Test
+    @DisplayName("Should report the statements a request ran in a response header")
+    void testStatementCountHeader() throws Exception {
+        // Arrange
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementBudgetFilter filter = new SqlStatementBudgetFilter(0, true, new SimpleMeterRegistry());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/courses/api");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        filter.doFilter(request, response, (req, res) -> courseService.getCourseCatalog());
+
+        // Assert
+        assertEquals("1", response.getHeader("X-SQL-Statement-Count"));
+    }
 }
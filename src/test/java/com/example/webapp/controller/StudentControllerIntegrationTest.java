@@ -1,9 +1,13 @@
 package com.example.webapp.controller;
 
+import com.example.webapp.dto.CursorPageDTO;
+import com.example.webapp.dto.StudentSummaryDTO;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Student;
 import com.example.webapp.repository.DeptRepository;
 import com.example.webapp.repository.StudentRepository;
+import com.example.webapp.service.StudentImportJob;
+import com.example.webapp.service.StudentImportService;
 import com.example.webapp.service.StudentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +17,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,6 +35,9 @@ class StudentControllerIntegrationTest {
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private StudentImportService studentImportService;
+
     @Autowired
     private DeptRepository deptReposatory;
 
@@ -170,4 +179,133 @@ class StudentControllerIntegrationTest {
             studentRepository.saveAndFlush(duplicateStudent);
         });
     }
+
+    @Test
+    @DisplayName("Should page through students with keyset cursors")
+    void testStudentKeysetPaging() {
+        // Arrange
+        for (int i = 0; i < 4; i++) {
+            Student s = new Student();
+            s.setName("Student " + i);
+            s.setRoll("PAGE" + i);
+            s.setEmail("page" + i + "@example.com");
+            s.setCurrentSemester(i % 2 == 0 ? 1 : 2);
+            s.setAcademicYear("2024-2025");
+            s.setDept(dept);
+            studentRepository.save(s);
+        }
+
+        // Act
+        CursorPageDTO<StudentSummaryDTO> first = studentService.getStudentPage(null, 2, null, null, null);
+        CursorPageDTO<StudentSummaryDTO> second = studentService.getStudentPage(first.getNextCursor(), 2, null, null, null);
+        CursorPageDTO<StudentSummaryDTO> third = studentService.getStudentPage(second.getNextCursor(), 2, null, null, null);
+
+        // Assert
+        assertEquals(2, first.getItems().size());
+        assertNotNull(first.getNextCursor());
+        assertEquals(2, second.getItems().size());
+        assertTrue(second.getItems().get(0).getId() > first.getItems().get(1).getId());
+        assertEquals(1, third.getItems().size());
+        assertNull(third.getNextCursor());
+        assertEquals("Computer Science", first.getItems().get(0).getDeptName());
+    }
+
+    @Test
+    @DisplayName("Should filter student pages by semester and academic year")
+    void testStudentKeysetPagingWithFilters() {
+        // Arrange
+        Student other = new Student();
+        other.setName("Other Student");
+        other.setRoll("2021099");
+        other.setCurrentSemester(2);
+        other.setAcademicYear("2023-2024");
+        studentRepository.save(other);
+
+        // Act
+        CursorPageDTO<StudentSummaryDTO> bySemester = studentService.getStudentPage(null, null, null, 5, null);
+        CursorPageDTO<StudentSummaryDTO> byYear = studentService.getStudentPage(null, null, null, null, "2023-2024");
+        CursorPageDTO<StudentSummaryDTO> byDept = studentService.getStudentPage(null, null, dept.getId(), null, null);
+
+        // Assert
+        assertEquals(1, bySemester.getItems().size());
+        assertEquals("2021001", bySemester.getItems().get(0).getRoll());
+        assertEquals(1, byYear.getItems().size());
+        assertEquals("2021099", byYear.getItems().get(0).getRoll());
+        assertEquals(1, byDept.getItems().size());
+        assertNull(byDept.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void testStudentKeysetPagingInvalidCursor() {
+        assertThrows(IllegalArgumentException.class,
+                () -> studentService.getStudentPage("not-a-cursor", 10, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should import valid CSV rows and report invalid ones")
+    void testImportStudentsFromCsv() throws Exception {
+        // Arrange
+        String csv = "name,roll,email,currentSemester,academicYear,department\n"
+                + "\"Doe, Jane\",2022001,jane@example.com,1,2024-2025,computer science\n"
+                + "Bob,2022002,,,,\n"
+                + "Dup In File,2022002,,,,\n"
+                + "Existing,2021001,,,,\n"
+                + "Bad Semester,2022003,,first,,\n"
+                + "Unknown Dept,2022004,,,,Physics\n"
+                + ",2022005,,,,\n";
+        StudentImportJob job = new StudentImportJob("test", "students.csv");
+
+        // Act
+        studentImportService.importStudents(job, new StringReader(csv));
+
+        // Assert
+        assertEquals(StudentImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(7, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(5, job.getFailedRows());
+
+        Student jane = studentRepository.findByRoll("2022001").orElseThrow();
+        assertEquals("Doe, Jane", jane.getName());
+        assertEquals(dept.getId(), jane.getDept().getId());
+        assertEquals(1, jane.getCurrentSemester());
+        assertTrue(studentRepository.findByRoll("2022002").isPresent());
+
+        StringWriter report = new StringWriter();
+        studentImportService.writeErrorReport(job, report);
+        String[] lines = report.toString().split("\n");
+        assertEquals(6, lines.length);
+        assertTrue(lines[1].startsWith("4,2022002,Duplicate roll in file"));
+        assertTrue(lines[2].startsWith("5,2021001,Roll already exists"));
+    }
+
+    @Test
+    @DisplayName("Should import CSV larger than one chunk")
+    void testImportStudentsAcrossChunks() throws Exception {
+        // Arrange
+        StringBuilder csv = new StringBuilder("name,roll,email,currentSemester,academicYear,department\n");
+        for (int i = 0; i < 1200; i++) {
+            csv.append("Student ").append(i).append(",IMP").append(i).append(",,3,2024-2025,Computer Science\n");
+        }
+        StudentImportJob job = new StudentImportJob("chunks", "large.csv");
+
+        // Act
+        studentImportService.importStudents(job, new StringReader(csv.toString()));
+
+        // Assert
+        assertEquals(1200, job.getImportedRows());
+        assertEquals(0, job.getFailedRows());
+        assertEquals(1201, studentRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should fail import with unexpected header")
+    void testImportStudentsRejectsWrongHeader() throws Exception {
+        StudentImportJob job = new StudentImportJob("header", "bad.csv");
+
+        studentImportService.importStudents(job, new StringReader("roll,name\n1,A\n"));
+
+        assertEquals(StudentImportJob.Status.FAILED, job.getStatus());
+        assertEquals(0, job.getImportedRows());
+    }
 }
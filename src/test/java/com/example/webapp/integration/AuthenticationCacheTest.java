@@ -0,0 +1,158 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.repository.UserRepository;
+import com.example.webapp.service.AuthenticatedUser;
+import com.example.webapp.service.CustomUserDetailsService;
+import com.example.webapp.service.StudentService;
+import com.example.webapp.service.TeacherService;
+import com.example.webapp.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Authentication Cache Tests")
+class AuthenticationCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsService.evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userService.registerStudent("alice", "alice@example.com", "secret1", "Alice", "AUTH001");
+        userRepository.flush();
+    }
+
+    @Test
+    @DisplayName("Should resolve a returning principal without touching the database")
+    void testPrincipalLookupServedFromCache() {
+        // Arrange
+        Long studentId = userDetailsService.findAccount("alice").orElseThrow().getStudentId();
+        statistics.clear();
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            userDetailsService.loadUserByUsername("alice");
+        }
+
+        // Assert
+        assertNotNull(studentId);
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should run one account query across repeated logins")
+    void testRepeatedLoginsQueryOnce() {
+        // Arrange
+        statistics.clear();
+
+        // Act - every login still pays for BCrypt, only the account lookup is cached
+        for (int i = 0; i < 10; i++) {
+            Authentication result = authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken("alice", "secret1"));
+            assertTrue(result.isAuthenticated());
+        }
+
+        // Assert
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should carry the linked student id on the authenticated principal")
+    void testPrincipalCarriesStudentId() {
+        // Act
+        Authentication result = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("alice", "secret1"));
+
+        // Assert
+        AuthenticatedUser principal = assertInstanceOf(AuthenticatedUser.class, result.getPrincipal());
+        assertTrue(principal.isStudent());
+        assertFalse(principal.isTeacher());
+        assertEquals(userService.findByUsername("alice").orElseThrow().getId(), principal.getUserId());
+        assertEquals("AUTH001", studentService.getStudentSummary(principal.getStudentId()).orElseThrow().getRoll());
+    }
+
+    @Test
+    @DisplayName("Should pick up a password reset on the next login")
+    void testPasswordResetEvictsPrincipal() {
+        // Arrange
+        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken("alice", "secret1"));
+        String token = userService.generateResetToken("alice@example.com");
+
+        // Act
+        assertTrue(userService.resetPassword(token, "secret2"));
+
+        // Assert
+        assertThrows(BadCredentialsException.class, () -> authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("alice", "secret1")));
+        assertTrue(authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("alice", "secret2")).isAuthenticated());
+    }
+
+    @Test
+    @DisplayName("Should drop the deleted student from the cached principal")
+    void testStudentDeletionEvictsPrincipal() {
+        // Arrange
+        Long studentId = userDetailsService.findAccount("alice").orElseThrow().getStudentId();
+
+        // Act
+        studentService.deleteStudent(studentId);
+        userRepository.flush();
+
+        // Assert
+        assertNull(userDetailsService.findAccount("alice").orElseThrow().getStudentId());
+    }
+
+    @Test
+    @DisplayName("Should drop the deleted teacher from the cached principal")
+    void testTeacherDeletionEvictsPrincipal() {
+        // Arrange
+        userService.registerTeacher("bob", "bob@example.com", "secret1", "Bob", null);
+        userRepository.flush();
+        Long teacherId = userDetailsService.findAccount("bob").orElseThrow().getTeacherId();
+
+        // Act
+        teacherService.deleteTeacher(teacherId);
+        userRepository.flush();
+
+        // Assert
+        assertNull(userDetailsService.findAccount("bob").orElseThrow().getTeacherId());
+    }
+}
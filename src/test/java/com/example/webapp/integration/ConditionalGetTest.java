@@ -0,0 +1,255 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.config.SqlStatementCounter;
+import com.example.webapp.controller.CourseController;
+import com.example.webapp.controller.DeptController;
+import com.example.webapp.dto.CourseSummaryDTO;
+import com.example.webapp.dto.DeptSummaryDTO;
+import com.example.webapp.entity.Course;
+import com.example.webapp.entity.Dept;
+import com.example.webapp.entity.Student;
+import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.DeptRepository;
+import com.example.webapp.repository.StudentRepository;
+import com.example.webapp.repository.TeacherRepository;
+import com.example.webapp.service.CacheAdminService;
+import com.example.webapp.service.CourseService;
+import com.example.webapp.service.DeptService;
+import com.example.webapp.service.EnrollmentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: ETags are answered from the query cache, which only sees committed writes
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Conditional GET Tests")
+class ConditionalGetTest {
+
+    @Autowired
+    private CourseController courseController;
+
+    @Autowired
+    private DeptController deptController;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private DeptService deptService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private CacheAdminService cacheAdminService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DeptRepository deptRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Dept dept;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        dept = new Dept();
+        dept.setName("Linguistics");
+        dept = deptService.saveDepartment(dept);
+
+        Course newCourse = new Course("Syntax", "LIN200", "Sentence structure", 3);
+        newCourse.setDept(dept);
+        course = courseService.saveCourse(newCourse);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+        teacherRepository.deleteAll();
+        deptRepository.deleteAll();
+        cacheAdminService.evictAll();
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with 304 without loading the catalog")
+    void testCatalogNotModified() {
+        // Arrange
+        ServletWebRequest first = request("/courses/api", null);
+        ResponseEntity<List<CourseSummaryDTO>> initial = courseController.getAllCourses(first);
+        String etag = initial.getHeaders().getETag();
+        courseController.getAllCourses(request("/courses/api", etag));
+
+        // Act
+        SqlStatementCounter.reset();
+        ServletWebRequest conditional = request("/courses/api", etag);
+        ResponseEntity<List<CourseSummaryDTO>> response = courseController.getAllCourses(conditional);
+
+        // Assert
+        assertEquals(HttpStatus.OK, initial.getStatusCode());
+        assertEquals(1, initial.getBody().size());
+        assertNotNull(etag);
+        assertFalse(etag.startsWith("W/"));
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals(304, conditional.getResponse().getStatus());
+        assertEquals(etag, conditional.getResponse().getHeader("ETag"));
+        assertEquals(0, SqlStatementCounter.count());
+    }
+
+    @Test
+    @DisplayName("Should change the catalog ETag when a seat is taken")
+    void testCatalogEtagFollowsSeatUpdates() {
+        // Arrange
+        String before = courseService.getCatalogEtag();
+        Student student = studentRepository.save(new Student("Noam", "LIN001", "noam@example.com"));
+
+        // Act
+        enrollmentService.enroll(student.getId(), course.getId());
+        ResponseEntity<List<CourseSummaryDTO>> response = courseController.getAllCourses(request("/courses/api", before));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(before, courseService.getCatalogEtag());
+        assertEquals(1, response.getBody().get(0).getSeatsTaken());
+    }
+
+    @Test
+    @DisplayName("Should change course and department ETags when a department is renamed")
+    void testDepartmentRenameInvalidatesEtags() {
+        // Arrange
+        String catalogBefore = courseService.getCatalogEtag();
+        String courseBefore = courseService.getCourseEtag(course.getId()).orElseThrow();
+        String departmentsBefore = deptService.getDepartmentsEtag();
+        String departmentBefore = deptService.getDepartmentEtag(dept.getId()).orElseThrow();
+
+        // Act
+        Dept renamed = deptService.getDepartmentById(dept.getId()).orElseThrow();
+        renamed.setName("Language Science");
+        deptService.saveDepartment(renamed);
+
+        // Assert
+        assertNotEquals(catalogBefore, courseService.getCatalogEtag());
+        assertNotEquals(courseBefore, courseService.getCourseEtag(course.getId()).orElseThrow());
+        assertNotEquals(departmentsBefore, deptService.getDepartmentsEtag());
+        assertNotEquals(departmentBefore, deptService.getDepartmentEtag(dept.getId()).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should serve single resources conditionally and 404 unknown ids")
+    void testSingleResources() {
+        // Arrange
+        ResponseEntity<DeptSummaryDTO> initial = deptController.getDepartmentById(dept.getId(),
+                request("/departments/api/" + dept.getId(), null));
+        String etag = initial.getHeaders().getETag();
+
+        // Act
+        ResponseEntity<DeptSummaryDTO> unchanged = deptController.getDepartmentById(dept.getId(),
+                request("/departments/api/" + dept.getId(), etag));
+        ResponseEntity<DeptSummaryDTO> otherEtag = deptController.getDepartmentById(dept.getId(),
+                request("/departments/api/" + dept.getId(), "\"0-0\""));
+        ResponseEntity<CourseSummaryDTO> missing = courseController.getCourseById(99999L,
+                request("/courses/api/99999", null));
+
+        // Assert
+        assertEquals("Linguistics", initial.getBody().getName());
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertEquals(HttpStatus.OK, otherEtag.getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+    }
+
+    @Test
+    @DisplayName("Should change the department list ETag when a department is deleted")
+    void testDeleteChangesCollectionEtag() {
+        // Arrange
+        Dept other = new Dept();
+        other.setName("Archaeology");
+        other = deptService.saveDepartment(other);
+        String before = deptService.getDepartmentsEtag();
+
+        // Act
+        deptService.deleteDepartment(other.getId());
+
+        // Assert
+        assertNotEquals(before, deptService.getDepartmentsEtag());
+    }
+
+    @Test
+    @DisplayName("Should change ETags when an update with a lower version commits last")
+    void testOutOfOrderCommits() throws Exception {
+        // Arrange
+        Dept other = new Dept();
+        other.setName("Archaeology");
+        Dept otherDept = deptService.saveDepartment(other);
+        CountDownLatch flushed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // Act - the first rename draws the lower version but commits after the second one
+        CompletableFuture<Void> slowRename = CompletableFuture.runAsync(() -> transaction.executeWithoutResult(status -> {
+            Dept renamed = deptRepository.findById(dept.getId()).orElseThrow();
+            renamed.setName("Language Science");
+            deptRepository.saveAndFlush(renamed);
+            flushed.countDown();
+            await(release);
+        }));
+        assertTrue(flushed.await(10, TimeUnit.SECONDS));
+        Dept renamedOther = deptService.getDepartmentById(otherDept.getId()).orElseThrow();
+        renamedOther.setName("Prehistory");
+        deptService.saveDepartment(renamedOther);
+        String departmentsBetween = deptService.getDepartmentsEtag();
+        String catalogBetween = courseService.getCatalogEtag();
+        release.countDown();
+        slowRename.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertNotEquals(departmentsBetween, deptService.getDepartmentsEtag());
+        assertNotEquals(catalogBetween, courseService.getCatalogEtag());
+    }
+
+    private static ServletWebRequest request(String uri, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
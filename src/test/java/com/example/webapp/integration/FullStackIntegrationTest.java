@@ -1,5 +1,7 @@
 package com.example.webapp.integration;
 
+import com.example.webapp.config.SqlStatementCounter;
+import com.example.webapp.controller.CourseEnrollmentController;
 import com.example.webapp.entity.Course;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Student;
@@ -8,6 +10,15 @@ import com.example.webapp.repository.CourseRepository;
 import com.example.webapp.repository.DeptRepository;
 import com.example.webapp.repository.StudentRepository;
 import com.example.webapp.repository.TeacherRepository;
+import com.example.webapp.service.AuthenticatedUser;
+import com.example.webapp.service.CourseService;
+import com.example.webapp.service.DeptService;
+import com.example.webapp.service.EnrollmentService;
+import com.example.webapp.service.StudentExportService;
+import com.example.webapp.service.StudentService;
+import com.example.webapp.service.TeacherService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,8 +26,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.support.RedirectAttributesModelMap;
+import tools.jackson.databind.ObjectMapper;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,6 +56,33 @@ class FullStackIntegrationTest {
     @Autowired
     private TeacherRepository teacherRepository;
 
+    @Autowired
+    private StudentExportService studentExportService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private TeacherService teacherService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private DeptService deptService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CourseEnrollmentController courseEnrollmentController;
+
     private Dept dept;
     private Teacher teacher;
     private Student student;
@@ -228,4 +273,168 @@ class FullStackIntegrationTest {
         List<Course> teacherCourses = courseRepository.findByCreatedById(teacher.getId());
         assertEquals(2, teacherCourses.size());
     }
+
+    @Test
+    @DisplayName("Should export students with enrollments as NDJSON")
+    void testExportStudentsAsNdjson() throws Exception {
+        // Arrange
+        student.getEnrolledCourses().add(course);
+        studentRepository.save(student);
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = studentExportService.exportStudents(StudentExportService.Format.NDJSON, out);
+
+        // Assert
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, written);
+        assertEquals(1, lines.length);
+        assertTrue(lines[0].contains("\"roll\":\"2021001\""));
+        assertTrue(lines[0].contains("\"deptName\":\"Computer Science\""));
+        assertTrue(lines[0].contains("\"courseIds\":[" + course.getId() + "]"));
+    }
+
+    @Test
+    @DisplayName("Should export students as gzip-compressed CSV across chunks")
+    void testExportStudentsAsGzipCsv() throws Exception {
+        // Arrange - more students than one export chunk
+        for (int i = 0; i < 600; i++) {
+            Student s = new Student();
+            s.setName("Export, Student " + i);
+            s.setRoll("EXP" + i);
+            s.setDept(dept);
+            studentRepository.save(s);
+        }
+
+        // Act
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            studentExportService.exportStudents(StudentExportService.Format.CSV, gzip);
+        }
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // Assert
+        String[] lines = csv.split("\n");
+        assertEquals(602, lines.length);
+        assertTrue(lines[0].startsWith("id,name,roll"));
+        assertTrue(csv.contains("\"Export, Student 599\",EXP599"));
+    }
+
+    @Test
+    @DisplayName("Should serialize flat, bounded API payloads regardless of related rows")
+    void testApiPayloadsStayFlat() {
+        // Arrange - a department with many related rows and an enrolled student
+        for (int i = 0; i < 50; i++) {
+            Student s = new Student();
+            s.setName("Student " + i);
+            s.setRoll("API" + i);
+            s.setDept(dept);
+            s.getEnrolledCourses().add(course);
+            studentRepository.save(s);
+        }
+        student.getEnrolledCourses().add(course);
+        studentRepository.save(student);
+
+        // Act
+        String deptJson = objectMapper.writeValueAsString(deptService.getDepartmentSummary(dept.getId()).orElseThrow());
+        String teacherJson = objectMapper.writeValueAsString(teacherService.getTeacherSummary(teacher.getId()).orElseThrow());
+        String courseJson = objectMapper.writeValueAsString(courseService.getCourseSummary(course.getId()).orElseThrow());
+        String studentJson = objectMapper.writeValueAsString(studentService.getStudentSummary(student.getId()).orElseThrow());
+
+        // Assert - no nested collections, and size does not grow with the 50 related students
+        for (String json : List.of(deptJson, teacherJson, courseJson, studentJson)) {
+            assertFalse(json.contains("["), json);
+            assertTrue(json.length() < 300, json);
+        }
+        assertTrue(courseJson.contains("\"deptName\":\"Computer Science\""));
+        assertTrue(courseJson.contains("\"createdByName\":\"Dr. Smith\""));
+        assertEquals(1, teacherService.getAllTeacherSummaries().size());
+        assertEquals(1, deptService.getAllDepartmentSummaries().size());
+    }
+
+    @Test
+    @DisplayName("Should enroll and unenroll through the join table")
+    void testDirectEnrollmentWrites() {
+        // Act & Assert
+        assertEquals(EnrollmentService.Result.ENROLLED, enrollmentService.enroll(student.getId(), course.getId()));
+        assertEquals(EnrollmentService.Result.ALREADY_ENROLLED, enrollmentService.enroll(student.getId(), course.getId()));
+        assertEquals(EnrollmentService.Result.COURSE_NOT_FOUND, enrollmentService.enroll(student.getId(), -1L));
+
+        assertEquals(1, studentRepository.findEnrollmentsByStudentIds(List.of(student.getId())).size());
+
+        assertEquals(EnrollmentService.Result.UNENROLLED, enrollmentService.unenroll(student.getId(), course.getId()));
+        assertEquals(EnrollmentService.Result.NOT_ENROLLED, enrollmentService.unenroll(student.getId(), course.getId()));
+        assertTrue(studentRepository.findEnrollmentsByStudentIds(List.of(student.getId())).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should name the course in enroll and unenroll messages")
+    void testEnrollmentMessagesNameCourse() {
+        // Arrange
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "john", "", true, List.of(),
+                student.getId(), null);
+        RedirectAttributesModelMap enrolled = new RedirectAttributesModelMap();
+        RedirectAttributesModelMap unenrolled = new RedirectAttributesModelMap();
+
+        // Act
+        courseEnrollmentController.enrollInCourse(principal, course.getId(), enrolled);
+        courseEnrollmentController.unenrollFromCourse(principal, course.getId(), unenrolled);
+
+        // Assert
+        assertEquals("Successfully enrolled in Data Structures", enrolled.getFlashAttributes().get("success"));
+        assertEquals("Successfully unenrolled from Data Structures", unenrolled.getFlashAttributes().get("success"));
+    }
+
+    @Test
+    @DisplayName("Should keep each endpoint's query count flat as related rows grow")
+    void testEndpointStatementBudgets() throws Exception {
+        // Arrange
+        for (int i = 0; i < 30; i++) {
+            Student s = new Student();
+            s.setName("Budget Student " + i);
+            s.setRoll("BUD" + i);
+            s.setDept(dept);
+            s.getEnrolledCourses().add(course);
+            studentRepository.save(s);
+        }
+        studentRepository.flush();
+
+        // Act & Assert - a lazy association touched per row would show up as 30+ statements
+        assertTrue(statementsFor(() -> studentService.getStudentPage(null, 50, dept.getId(), null, null)) <= 1);
+        assertTrue(statementsFor(() -> courseService.getAvailableCourses(student.getId(), null, 0)) <= 1);
+        assertTrue(statementsFor(() -> courseService.getCourseCatalog()) <= 1);
+        assertTrue(statementsFor(() -> teacherService.getAllTeacherSummaries()) <= 1);
+        assertTrue(statementsFor(() -> deptService.getAllDepartmentSummaries()) <= 1);
+
+        SqlStatementCounter.reset();
+        studentExportService.exportStudents(StudentExportService.Format.NDJSON, new ByteArrayOutputStream());
+        assertTrue(SqlStatementCounter.count() <= 2);
+    }
+
+    private int statementsFor(Runnable action) {
+        SqlStatementCounter.reset();
+        action.run();
+        return SqlStatementCounter.count();
+    }
+
+    @Test
+    @DisplayName("Should time service and repository calls and publish pool, Hibernate and JVM meters")
+    void testMetricsRecorded() {
+        // Act
+        studentService.getStudentPage(null, 10, null, null, null);
+
+        // Assert
+        Timer serviceTimer = meterRegistry.find("app.service")
+                .tags("service", "StudentService", "method", "getStudentPage", "exception", "none").timer();
+        assertNotNull(serviceTimer);
+        assertTrue(serviceTimer.count() >= 1);
+        assertNotNull(meterRegistry.find("spring.data.repository.invocations")
+                .tags("repository", "StudentRepository", "method", "findPageAfter").timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge());
+        assertNotNull(meterRegistry.find("hibernate.statements").meter());
+        assertNotNull(meterRegistry.find("jvm.memory.used").gauge());
+    }
 }
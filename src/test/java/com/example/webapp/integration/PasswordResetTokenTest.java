@@ -0,0 +1,136 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.config.SqlStatementCounter;
+import com.example.webapp.entity.PasswordResetToken;
+import com.example.webapp.entity.User;
+import com.example.webapp.repository.PasswordResetTokenRepository;
+import com.example.webapp.repository.UserRepository;
+import com.example.webapp.service.UserService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Password Reset Token Tests")
+class PasswordResetTokenTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository resetTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userService.registerTeacher("bob", "bob@example.com", "secret1", "Bob", null);
+    }
+
+    @Test
+    @DisplayName("Should store only a hash of the emailed token")
+    void testTokenStoredHashed() {
+        // Act
+        String token = userService.generateResetToken("bob@example.com");
+
+        // Assert
+        assertNotNull(token);
+        assertFalse(resetTokenRepository.existsById(token));
+        assertEquals(1, resetTokenRepository.count());
+        assertTrue(userService.validateResetToken(token));
+        assertFalse(userService.validateResetToken(token + "x"));
+    }
+
+    @Test
+    @DisplayName("Should allow a reset token to be used only once")
+    void testTokenSingleUse() {
+        // Arrange
+        String token = userService.generateResetToken("bob@example.com");
+
+        // Act & Assert
+        assertTrue(userService.resetPassword(token, "secret2"));
+        assertFalse(userService.resetPassword(token, "secret3"));
+        assertFalse(userService.validateResetToken(token));
+        assertTrue(passwordEncoder.matches("secret2", userRepository.findByUsername("bob").orElseThrow().getPassword()));
+    }
+
+    @Test
+    @DisplayName("Should reset in three statements and reject unknown tokens with one")
+    void testResetStatementCount() {
+        // Arrange
+        String token = userService.generateResetToken("bob@example.com");
+        // Start from an empty persistence context, as a reset request does
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        SqlStatementCounter.reset();
+        boolean unknown = userService.resetPassword(token + "x", "secret2");
+        int unknownStatements = SqlStatementCounter.count();
+        SqlStatementCounter.reset();
+        boolean reset = userService.resetPassword(token, "secret2");
+        userRepository.flush();
+        int resetStatements = SqlStatementCounter.count();
+
+        // Assert
+        assertFalse(unknown);
+        assertEquals(1, unknownStatements);
+        assertTrue(reset);
+        assertEquals(3, resetStatements);
+    }
+
+    @Test
+    @DisplayName("Should invalidate the previous link when a new one is requested")
+    void testNewTokenReplacesOld() {
+        // Arrange
+        String first = userService.generateResetToken("bob@example.com");
+
+        // Act
+        String second = userService.generateResetToken("bob@example.com");
+
+        // Assert
+        assertFalse(userService.validateResetToken(first));
+        assertTrue(userService.validateResetToken(second));
+    }
+
+    @Test
+    @DisplayName("Should purge expired tokens in batches and keep live ones")
+    void testPurgeExpiredTokens() {
+        // Arrange - more expired rows than one purge batch
+        String live = userService.generateResetToken("bob@example.com");
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        for (int i = 0; i < 1200; i++) {
+            resetTokenRepository.save(new PasswordResetToken(String.format("%064d", i), user, past));
+        }
+        resetTokenRepository.flush();
+
+        // Act
+        int purged = userService.purgeExpiredResetTokens();
+
+        // Assert
+        assertEquals(1200, purged);
+        assertTrue(userService.validateResetToken(live));
+        assertEquals(1, resetTokenRepository.count());
+    }
+}
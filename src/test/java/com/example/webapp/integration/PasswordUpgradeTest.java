@@ -0,0 +1,88 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.entity.Role;
+import com.example.webapp.entity.User;
+import com.example.webapp.repository.UserRepository;
+import com.example.webapp.service.CustomUserDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: the upgrade commits on a background thread, which must see the user row
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Password Upgrade Tests")
+class PasswordUpgradeTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.findByUsername("legacy").ifPresent(userRepository::delete);
+        userDetailsService.evict("legacy");
+    }
+
+    @Test
+    @DisplayName("Should re-hash a legacy BCrypt password in the background after login")
+    void testLegacyHashUpgradedAfterLogin() throws Exception {
+        // Arrange - a hash from before algorithm ids were stored
+        String legacyHash = new BCryptPasswordEncoder(5).encode("legacy-pass");
+        userRepository.save(new User("legacy", "legacy@example.com", legacyHash, Role.ADMIN));
+
+        // Act
+        assertTrue(authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("legacy", "legacy-pass")).isAuthenticated());
+
+        // Assert
+        String storedHash = legacyHash;
+        for (int i = 0; i < 100 && storedHash.equals(legacyHash); i++) {
+            Thread.sleep(50);
+            storedHash = userRepository.findByUsername("legacy").orElseThrow().getPassword();
+        }
+        assertTrue(storedHash.startsWith("{bcrypt}"), storedHash);
+        assertFalse(passwordEncoder.upgradeEncoding(storedHash));
+        assertTrue(authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("legacy", "legacy-pass")).isAuthenticated());
+    }
+
+    @Test
+    @DisplayName("Should not overwrite a password that changed before the upgrade ran")
+    void testUpgradeDoesNotOverwriteNewerPassword() {
+        // Arrange
+        String legacyHash = new BCryptPasswordEncoder(5).encode("legacy-pass");
+        String resetHash = passwordEncoder.encode("reset-pass");
+        userRepository.save(new User("legacy", "legacy@example.com", resetHash, Role.ADMIN));
+
+        // Act
+        int updated = userRepository.updatePasswordIfUnchanged("legacy", legacyHash, passwordEncoder.encode("legacy-pass"));
+
+        // Assert
+        assertEquals(0, updated);
+        assertEquals(resetHash, userRepository.findByUsername("legacy").orElseThrow().getPassword());
+    }
+}
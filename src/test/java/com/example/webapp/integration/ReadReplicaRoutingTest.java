@@ -0,0 +1,195 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.config.ReadYourWritesFilter;
+import com.example.webapp.config.ReadYourWritesTracker;
+import com.example.webapp.dto.CourseSummaryDTO;
+import com.example.webapp.entity.Course;
+import com.example.webapp.entity.Student;
+import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.StudentRepository;
+import com.example.webapp.service.AuthenticatedUser;
+import com.example.webapp.service.CourseService;
+import com.example.webapp.service.EnrollmentService;
+import com.example.webapp.service.StudentService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: routing happens when each service transaction fetches its connection.
+// The "replica" is a second pool on the same in-memory database, so no replication is needed
+@SpringBootTest(properties = "app.datasource.replica.url=jdbc:h2:mem:testdb;MODE=PostgreSQL")
+@ActiveProfiles("test")
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ReadYourWritesTracker tracker;
+
+    @Autowired
+    private ReadYourWritesFilter readYourWritesFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Student student;
+    private Student otherStudent;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        course = courseRepository.save(new Course("Replicated Systems", "REP101", null, 3));
+        student = studentRepository.save(new Student("Rita", "REP001", "rita@example.com"));
+        otherStudent = studentRepository.save(new Student("Omar", "REP002", "omar@example.com"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should serve read-only service methods from the replica pool")
+    void testReadOnlyTransactionsUseReplica() {
+        // Arrange
+        double replicaBefore = connections("replica");
+        double primaryBefore = connections("primary");
+
+        // Act
+        studentService.getStudentPage(null, 10, null, null, null);
+
+        // Assert
+        assertEquals(replicaBefore + 1, connections("replica"));
+        assertEquals(primaryBefore, connections("primary"));
+    }
+
+    @Test
+    @DisplayName("Should send writes to the primary pool")
+    void testWritesUsePrimary() {
+        // Arrange
+        double replicaBefore = connections("replica");
+        double primaryBefore = connections("primary");
+
+        // Act
+        EnrollmentService.Result result = enrollmentService.enroll(student.getId(), course.getId());
+
+        // Assert
+        assertEquals(EnrollmentService.Result.ENROLLED, result);
+        assertEquals(replicaBefore, connections("replica"));
+        assertTrue(connections("primary") > primaryBefore);
+    }
+
+    @Test
+    @DisplayName("Should read from the primary after the student's own enrollment change")
+    void testReadYourWritesAfterEnrollment() throws Exception {
+        // Arrange
+        enrollmentService.enroll(student.getId(), course.getId());
+        double replicaBefore = connections("replica");
+        double primaryBefore = connections("primary");
+
+        // Act
+        List<CourseSummaryDTO> available = availableCoursesInRequest(student);
+
+        // Assert
+        assertTrue(tracker.hasRecentWrite(student.getId()));
+        assertTrue(available.stream().noneMatch(c -> c.getId().equals(course.getId())));
+        assertEquals(primaryBefore + 1, connections("primary"));
+        assertEquals(replicaBefore, connections("replica"));
+        assertFalse(tracker.isPrimaryRequired());
+    }
+
+    @Test
+    @DisplayName("Should keep other students on the replica")
+    void testOtherStudentsStayOnReplica() throws Exception {
+        // Arrange
+        enrollmentService.enroll(student.getId(), course.getId());
+        double replicaBefore = connections("replica");
+
+        // Act
+        List<CourseSummaryDTO> available = availableCoursesInRequest(otherStudent);
+
+        // Assert
+        assertFalse(tracker.hasRecentWrite(otherStudent.getId()));
+        assertTrue(available.stream().anyMatch(c -> c.getId().equals(course.getId())));
+        assertEquals(replicaBefore + 1, connections("replica"));
+    }
+
+    @Test
+    @DisplayName("Should run read-only transactions with manual flush and no dirty-check snapshots")
+    void testReadOnlySessionSettings() {
+        // Arrange
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act & Assert
+        readOnly.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            Course loaded = courseRepository.findById(course.getId()).orElseThrow();
+
+            assertEquals(FlushMode.MANUAL, session.getHibernateFlushMode());
+            assertTrue(session.isDefaultReadOnly());
+            assertTrue(session.isReadOnly(loaded));
+        });
+    }
+
+    private List<CourseSummaryDTO> availableCoursesInRequest(Student principal) throws Exception {
+        AuthenticatedUser user = new AuthenticatedUser(1L, principal.getRoll(), "n/a", true,
+                List.of(new SimpleGrantedAuthority("ROLE_STUDENT")), principal.getId(), null);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+
+        List<List<CourseSummaryDTO>> result = new ArrayList<>();
+        readYourWritesFilter.doFilter(new MockHttpServletRequest("GET", "/courses/available"),
+                new MockHttpServletResponse(),
+                (request, response) -> result.add(
+                        courseService.getAvailableCourses(principal.getId(), null, 0).getContent()));
+        return result.get(0);
+    }
+
+    private double connections(String target) {
+        return meterRegistry.get("app.datasource.connections").tag("target", target).counter().count();
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.dto.CourseSummaryDTO;
+import com.example.webapp.dto.DeptSummaryDTO;
+import com.example.webapp.entity.Course;
+import com.example.webapp.entity.Dept;
+import com.example.webapp.entity.Student;
+import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.DeptRepository;
+import com.example.webapp.repository.StudentRepository;
+import com.example.webapp.repository.TeacherRepository;
+import com.example.webapp.service.CacheAdminService;
+import com.example.webapp.service.CourseService;
+import com.example.webapp.service.DeptService;
+import com.example.webapp.service.EnrollmentService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: entries are only shared through the second-level cache once a transaction commits
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Reference Data Cache Tests")
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private DeptService deptService;
+
+    @Autowired
+    private CacheAdminService cacheAdminService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private DeptRepository deptRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+        teacherRepository.deleteAll();
+        deptRepository.deleteAll();
+        cacheAdminService.evictAll();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated department lookups from the cache and see updates")
+    void testDepartmentLookupsHitCache() {
+        // Arrange
+        Dept dept = deptService.saveDepartment(new Dept("Physics", "Physical Sciences"));
+        deptService.getDepartmentById(dept.getId());
+        statistics.clear();
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            assertTrue(deptService.getDepartmentById(dept.getId()).isPresent());
+        }
+
+        // Assert
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(5, statistics.getCacheRegionStatistics("dept").getHitCount());
+
+        dept.setDescription("Updated");
+        deptService.saveDepartment(dept);
+        assertEquals("Updated", deptService.getDepartmentById(dept.getId()).orElseThrow().getDescription());
+
+        deptService.deleteDepartment(dept.getId());
+        assertTrue(deptService.getDepartmentById(dept.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop a deleted department's courses from the course suggestions")
+    void testDepartmentDeleteUpdatesSuggestions() {
+        // Arrange
+        Dept dept = deptService.saveDepartment(new Dept("Astronomy", "Space Sciences"));
+        Course stellar = new Course("Stellar Physics", "AST101", null, 3);
+        stellar.setDept(dept);
+        courseService.saveCourse(stellar);
+        Course cosmology = new Course("Cosmology", "AST201", null, 3);
+        cosmology.setDept(dept);
+        courseService.saveCourse(cosmology);
+        assertEquals(2, courseService.suggestCourses("ast", 10).size());
+
+        // Act
+        deptService.deleteDepartment(dept.getId());
+
+        // Assert
+        assertTrue(courseService.suggestCourses("ast", 10).isEmpty());
+        assertTrue(courseService.suggestCourses("stellar", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should cache the department summary query until departments change")
+    void testSummaryQueryCacheInvalidatedOnWrite() {
+        // Arrange
+        deptService.saveDepartment(new Dept("Chemistry", "Chemical Sciences"));
+        deptService.getAllDepartmentSummaries();
+        statistics.clear();
+
+        // Act
+        List<DeptSummaryDTO> cached = deptService.getAllDepartmentSummaries();
+        long statementsWhileCached = statistics.getPrepareStatementCount();
+        deptService.saveDepartment(new Dept("Biology", "Life Sciences"));
+        List<DeptSummaryDTO> refreshed = deptService.getAllDepartmentSummaries();
+
+        // Assert
+        assertEquals(0, statementsWhileCached);
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, cached.size());
+        assertEquals(2, refreshed.size());
+        assertTrue(cacheAdminService.getRegionStatistics().stream()
+                .anyMatch(region -> region.getRegion().equals("dept")));
+    }
+
+    @Test
+    @DisplayName("Should keep cached courses and department lists when a seat is reserved")
+    void testSeatReservationKeepsOtherCacheEntries() {
+        // Arrange
+        Dept dept = deptService.saveDepartment(new Dept("History", "Humanities"));
+        Course newCourse = new Course("Ancient Rome", "HIS101", null, 3);
+        newCourse.setDept(dept);
+        Course reserved = courseService.saveCourse(newCourse);
+        Course otherCourse = new Course("Medieval Europe", "HIS102", null, 3);
+        otherCourse.setDept(dept);
+        Course other = courseService.saveCourse(otherCourse);
+        Student student = studentRepository.save(new Student("Livia", "HIS001", null));
+        courseService.getCourseById(reserved.getId());
+        courseService.getCourseById(other.getId());
+        deptService.getAllDepartmentSummaries();
+        courseService.getCourseCatalog();
+        statistics.clear();
+
+        // Act
+        enrollmentService.enroll(student.getId(), reserved.getId());
+
+        // Assert
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(Course.class, other.getId()));
+        assertTrue(cache.contains(Course.class, reserved.getId()));
+        assertTrue(cache.contains(Dept.class, dept.getId()));
+        deptService.getAllDepartmentSummaries();
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        List<CourseSummaryDTO> catalog = courseService.getCourseCatalog();
+        assertEquals(1, catalog.stream().filter(c -> c.getId().equals(reserved.getId())).findFirst()
+                .orElseThrow().getSeatsTaken());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.config.ReadYourWritesTracker;
+import com.example.webapp.dto.CourseSummaryDTO;
+import com.example.webapp.entity.Course;
+import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.service.CacheAdminService;
+import com.example.webapp.service.CourseService;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: each read runs in its own service transaction. The replica is a separate
+// in-memory database that never receives the primary's writes, so it is as stale as a replica gets
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Replica Cache Isolation Tests")
+class ReplicaCacheIsolationTest {
+
+    private static final String REPLICA_URL = "jdbc:h2:mem:stale-replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @DynamicPropertySource
+    static void replica(DynamicPropertyRegistry registry) {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        registry.add("app.datasource.replica.url", () -> REPLICA_URL);
+    }
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CacheAdminService cacheAdminService;
+
+    @Autowired
+    private ReadYourWritesTracker tracker;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        course = courseRepository.save(new Course("Current Name", "RCI100", null, 3));
+        replica.update("insert into courses (id, name, code, credits) values (?, 'Outdated Name', 'RCI100', 3)",
+                course.getId());
+        cacheAdminService.evictAll();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        courseRepository.deleteAll();
+        replica.update("delete from courses");
+        cacheAdminService.evictAll();
+    }
+
+    @Test
+    @DisplayName("Should not cache query results read from the replica")
+    void testReplicaQueriesSkipQueryCache() {
+        // Act
+        List<CourseSummaryDTO> fromReplica = courseService.getCourseCatalog();
+        List<CourseSummaryDTO> fromPrimary = onPrimary(courseService::getCourseCatalog);
+
+        // Assert
+        assertEquals("Outdated Name", fromReplica.get(0).getName());
+        assertEquals("Current Name", fromPrimary.get(0).getName());
+    }
+
+    @Test
+    @DisplayName("Should not cache entities loaded from the replica")
+    void testReplicaLoadsSkipEntityCache() {
+        // Arrange
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        String fromReplica = readOnly.execute(status -> courseRepository.findById(course.getId()).orElseThrow().getName());
+        boolean cachedAfterReplica = entityManagerFactory.getCache().contains(Course.class, course.getId());
+        String fromPrimary = onPrimary(() -> readOnly.execute(status ->
+                courseRepository.findById(course.getId()).orElseThrow().getName()));
+
+        // Assert
+        assertEquals("Outdated Name", fromReplica);
+        assertFalse(cachedAfterReplica);
+        assertEquals("Current Name", fromPrimary);
+    }
+
+    // What read-your-writes does for a student who just changed their enrollments
+    private <T> T onPrimary(Supplier<T> read) {
+        tracker.setPrimaryRequired(true);
+        try {
+            return read.get();
+        } finally {
+            tracker.setPrimaryRequired(false);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.webapp.integration;
+
+import com.example.webapp.entity.Course;
+import com.example.webapp.entity.Student;
+import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.DeptRepository;
+import com.example.webapp.repository.StudentRepository;
+import com.example.webapp.repository.TeacherRepository;
+import com.example.webapp.service.CourseService;
+import com.example.webapp.service.EnrollmentService;
+import com.example.webapp.service.StudentService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not @Transactional: every enrollment must commit on its own thread for the race to be real
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Seat Reservation Concurrency Tests")
+class SeatReservationConcurrencyTest {
+
+    private static final int CAPACITY = 10;
+    private static final int STUDENTS = 60;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EnrollmentService enrollmentService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private DeptRepository deptRepository;
+
+    private Course course;
+    private List<Student> students;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+
+        course = new Course("Popular Section", "POP101", null, 3);
+        course.setCapacity(CAPACITY);
+        course = courseRepository.save(course);
+
+        students = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student("Student " + i, "RACE" + i, null));
+        }
+        students = studentRepository.saveAll(students);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        studentRepository.deleteAll();
+        courseRepository.deleteAll();
+        teacherRepository.deleteAll();
+        deptRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should never oversell seats under concurrent enrollment")
+    void testConcurrentEnrollmentNeverOversells() throws Exception {
+        // Arrange
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<EnrollmentService.Result, AtomicInteger> outcomes = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act - every student tries twice, so duplicates race against seat reservation too
+        for (int attempt = 0; attempt < 2; attempt++) {
+            for (Student student : students) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    EnrollmentService.Result result = enrollmentService.enroll(student.getId(), course.getId());
+                    outcomes.computeIfAbsent(result, r -> new AtomicInteger()).incrementAndGet();
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Assert
+        long joinRows = studentRepository.findEnrollmentsByStudentIds(
+                students.stream().map(Student::getId).toList()).size();
+
+        assertEquals(CAPACITY, outcomes.get(EnrollmentService.Result.ENROLLED).get());
+        assertEquals(CAPACITY, seatsTaken(course));
+        assertEquals(CAPACITY, joinRows);
+        assertEquals(2 * STUDENTS, outcomes.values().stream().mapToInt(AtomicInteger::get).sum());
+    }
+
+    @Test
+    @DisplayName("Should release the seat on unenroll so another student can take it")
+    void testUnenrollReleasesSeat() {
+        // Arrange
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(EnrollmentService.Result.ENROLLED, enrollmentService.enroll(students.get(i).getId(), course.getId()));
+        }
+        Long waitlisted = students.get(CAPACITY).getId();
+
+        // Act & Assert
+        assertEquals(EnrollmentService.Result.COURSE_FULL, enrollmentService.enroll(waitlisted, course.getId()));
+        assertEquals(EnrollmentService.Result.UNENROLLED, enrollmentService.unenroll(students.get(0).getId(), course.getId()));
+        assertEquals(EnrollmentService.Result.ENROLLED, enrollmentService.enroll(waitlisted, course.getId()));
+        assertEquals(CAPACITY, seatsTaken(course));
+    }
+
+    @Test
+    @DisplayName("Should release seats when an enrolled student is deleted and allow deleting an enrolled course")
+    void testDeletesKeepCountersInStep() {
+        // Arrange
+        Course other = courseRepository.save(new Course("Quiet Section", "QUI101", null, 3));
+        enrollmentService.enroll(students.get(0).getId(), course.getId());
+        enrollmentService.enroll(students.get(0).getId(), other.getId());
+        enrollmentService.enroll(students.get(1).getId(), course.getId());
+
+        // Act
+        studentService.deleteStudent(students.get(0).getId());
+        courseService.deleteCourse(other.getId());
+
+        // Assert
+        assertEquals(1, seatsTaken(course));
+        assertFalse(courseRepository.existsById(other.getId()));
+        assertEquals(1, studentRepository.findEnrollmentsByStudentIds(List.of(students.get(1).getId())).size());
+    }
+
+    @Test
+    @DisplayName("Should recount seat counters on demand")
+    void testReconcileSeatCounts() {
+        // Arrange - a join row written around EnrollmentService leaves the counter behind
+        Student student = students.get(0);
+        student.getEnrolledCourses().add(course);
+        studentRepository.save(student);
+
+        // Act
+        int recounted = enrollmentService.reconcileSeatCounts();
+
+        // Assert
+        assertEquals(1, recounted);
+        assertEquals(1, seatsTaken(course));
+    }
+
+    private int seatsTaken(Course course) {
+        return courseRepository.findSummaryById(course.getId()).orElseThrow().getSeatsTaken();
+    }
+}
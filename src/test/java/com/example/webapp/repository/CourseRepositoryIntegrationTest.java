@@ -1,13 +1,17 @@
 package com.example.webapp.repository;
 
+import com.example.webapp.dto.CourseSummaryDTO;
 import com.example.webapp.entity.Course;
 import com.example.webapp.entity.Dept;
+import com.example.webapp.entity.Student;
 import com.example.webapp.entity.Teacher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +35,9 @@ class CourseRepositoryIntegrationTest {
     @Autowired
     private TeacherRepository teacherRepository;
 
+    @Autowired
+    private StudentRepository studentRepository;
+
     private Dept dept;
     private Teacher teacher;
     private Course course1;
@@ -39,6 +46,7 @@ class CourseRepositoryIntegrationTest {
     @BeforeEach
     void setUp() {
         // Clean up
+        studentRepository.deleteAll();
         courseRepository.deleteAll();
         teacherRepository.deleteAll();
         deptRepository.deleteAll();
@@ -239,4 +247,44 @@ class CourseRepositoryIntegrationTest {
         // Assert
         assertTrue(count >= 2);
     }
+
+    @Test
+    @DisplayName("Should find only courses the student is not enrolled in")
+    void testFindAvailableForStudent() {
+        // Arrange
+        Student student = new Student("John Doe", "2021001", "john@example.com");
+        student.getEnrolledCourses().add(course1);
+        student = studentRepository.save(student);
+
+        Dept otherDept = deptRepository.save(new Dept("Mathematics", null));
+        Course mathCourse = new Course("Calculus", "MA101", null, 3);
+        mathCourse.setDept(otherDept);
+        courseRepository.save(mathCourse);
+
+        // Act
+        Slice<CourseSummaryDTO> all = courseRepository.findAvailableForStudent(student.getId(), null, PageRequest.of(0, 10));
+        Slice<CourseSummaryDTO> csOnly = courseRepository.findAvailableForStudent(student.getId(), dept.getId(), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(List.of("CS102", "MA101"), all.getContent().stream().map(CourseSummaryDTO::getCode).toList());
+        assertEquals(List.of("CS102"), csOnly.getContent().stream().map(CourseSummaryDTO::getCode).toList());
+        assertEquals("Dr. Smith", csOnly.getContent().get(0).getCreatedByName());
+    }
+
+    @Test
+    @DisplayName("Should page available courses without counting")
+    void testFindAvailableForStudentPaging() {
+        // Arrange
+        Student student = studentRepository.save(new Student("Jane Doe", "2021002", "jane@example.com"));
+
+        // Act
+        Slice<CourseSummaryDTO> first = courseRepository.findAvailableForStudent(student.getId(), null, PageRequest.of(0, 1));
+        Slice<CourseSummaryDTO> second = courseRepository.findAvailableForStudent(student.getId(), null, PageRequest.of(1, 1));
+
+        // Assert
+        assertEquals("CS101", first.getContent().get(0).getCode());
+        assertTrue(first.hasNext());
+        assertEquals("CS102", second.getContent().get(0).getCode());
+        assertFalse(second.hasNext());
+    }
 }
@@ -2,6 +2,10 @@ package com.example.webapp.repository;
 
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,6 +14,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,6 +32,12 @@ class StudentRepositoryIntegrationTest {
     @Autowired
     private DeptRepository deptRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Dept dept;
     private Student student1;
     private Student student2;
@@ -211,4 +222,45 @@ class StudentRepositoryIntegrationTest {
         assertNotNull(found.get().getDept());
         assertEquals("Computer Science", found.get().getDept().getName());
     }
+
+    @Test
+    @DisplayName("Should batch bulk inserts and pool sequence calls")
+    void testBulkInsertIsBatched() {
+        // Arrange
+        entityManager.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Student s = new Student();
+            s.setName("Bulk Student " + i);
+            s.setRoll("BULK" + i);
+            s.setDept(dept);
+            students.add(s);
+        }
+
+        // Act
+        studentRepository.saveAll(students);
+        entityManager.flush();
+
+        // Assert - 200 rows need a handful of sequence calls and insert batches, not 200 round trips
+        assertEquals(200, students.stream().map(Student::getId).distinct().count());
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "Expected batched inserts but prepared " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    @DisplayName("Should index foreign keys and join-table reverse sides through migrations")
+    void testMigrationIndexesExist() {
+        // Act
+        @SuppressWarnings("unchecked")
+        List<String> indexes = entityManager.createNativeQuery(
+                "select lower(index_name) from information_schema.indexes").getResultList();
+
+        // Assert
+        assertTrue(indexes.containsAll(List.of(
+                "idx_students_dept_id", "idx_teachers_dept_id", "idx_courses_dept_id", "idx_courses_created_by",
+                "idx_student_course_course_id", "idx_teacher_student_student_id")), indexes::toString);
+    }
 }
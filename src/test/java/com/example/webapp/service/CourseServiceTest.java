@@ -4,6 +4,7 @@ import com.example.webapp.entity.Course;
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Teacher;
 import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.StudentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +29,12 @@ class CourseServiceTest {
     @Mock
     private CourseRepository courseRepository;
 
+    @Mock
+    private StudentRepository studentRepository;
+
+    @Mock
+    private CourseSuggestionIndex suggestionIndex;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -126,6 +133,7 @@ class CourseServiceTest {
         assertEquals("Data Structures", result.getName());
         assertEquals("CS101", result.getCode());
         verify(courseRepository, times(1)).save(course1);
+        verify(suggestionIndex, times(1)).put(course1);
     }
 
     @Test
@@ -138,7 +146,9 @@ class CourseServiceTest {
         courseService.deleteCourse(1L);
 
         // Assert
+        verify(studentRepository, times(1)).deleteEnrollmentsOfCourse(1L);
         verify(courseRepository, times(1)).deleteById(1L);
+        verify(suggestionIndex, times(1)).remove(1L);
     }
 
     @Test
@@ -0,0 +1,115 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.CourseSuggestionDTO;
+import com.example.webapp.entity.Course;
+import com.example.webapp.repository.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Course Suggestion Index Unit Tests")
+class CourseSuggestionIndexTest {
+
+    @Mock
+    private CourseRepository courseRepository;
+
+    private CourseSuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(courseRepository.findAllSuggestions()).thenReturn(List.of(
+                new CourseSuggestionDTO(1L, "CSE301", "Data Structures"),
+                new CourseSuggestionDTO(2L, "CSE302", "Operating Systems"),
+                new CourseSuggestionDTO(3L, "CSE410", "Distributed Systems"),
+                new CourseSuggestionDTO(4L, "MAT101", "Calculus")));
+        index = new CourseSuggestionIndex(courseRepository);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should match code prefixes case-insensitively in code order")
+    void testCodePrefix() {
+        // Act
+        List<CourseSuggestionDTO> result = index.suggest("cse3", 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), ids(result));
+    }
+
+    @Test
+    @DisplayName("Should match the start of any word in the name, once per course")
+    void testNameWords() {
+        // Act
+        List<CourseSuggestionDTO> systems = index.suggest("Systems", 10);
+        List<CourseSuggestionDTO> distributed = index.suggest("distributed sys", 10);
+
+        // Assert
+        assertEquals(List.of(2L, 3L), ids(systems));
+        assertEquals(List.of(3L), ids(distributed));
+        verify(courseRepository, times(1)).findAllSuggestions();
+    }
+
+    @Test
+    @DisplayName("Should cap results and ignore blank prefixes")
+    void testLimitAndBlank() {
+        // Act & Assert
+        assertEquals(1, index.suggest("cse", 1).size());
+        assertTrue(index.suggest("  ", 10).isEmpty());
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should replace a course's keys when it is saved and drop them when deleted")
+    void testIncrementalUpdates() {
+        // Arrange
+        Course renamed = new Course("Advanced Data Structures", "CSE501", null, 3);
+        renamed.setId(1L);
+
+        // Act
+        index.put(renamed);
+        index.remove(4L);
+
+        // Assert
+        assertTrue(index.suggest("cse30", 10).stream().noneMatch(c -> c.getId().equals(1L)));
+        assertEquals("CSE501", index.suggest("advanced", 10).get(0).getCode());
+        assertEquals(List.of(1L), ids(index.suggest("data", 10)));
+        assertTrue(index.suggest("calc", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should apply changes made inside a transaction only after commit")
+    void testUpdatesWaitForCommit() {
+        // Arrange
+        Course course = new Course("Compilers", "CSE450", null, 3);
+        course.setId(5L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // Act
+            index.put(course);
+            boolean visibleBeforeCommit = !index.suggest("compil", 10).isEmpty();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertFalse(visibleBeforeCommit);
+            assertEquals(List.of(5L), ids(index.suggest("compil", 10)));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static List<Long> ids(List<CourseSuggestionDTO> suggestions) {
+        return suggestions.stream().map(CourseSuggestionDTO::getId).toList();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.webapp.service;
+
+import com.example.webapp.dto.SearchPageDTO;
+import com.example.webapp.dto.SearchResultDTO;
+import com.example.webapp.entity.Course;
+import com.example.webapp.entity.Student;
+import com.example.webapp.entity.Teacher;
+import com.example.webapp.repository.CourseRepository;
+import com.example.webapp.repository.StudentRepository;
+import com.example.webapp.repository.TeacherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the H2 fallback; the PostgreSQL full-text path needs a real server
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Search Service Integration Tests")
+class SearchServiceIntegrationTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    private Student exactStudent;
+    private Student partialStudent;
+    private Teacher teacher;
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        exactStudent = studentRepository.save(new Student("Zebulon", "ZB001", "zebulon@example.com"));
+        partialStudent = studentRepository.save(new Student("Ada Zebulonsky", "ZB002", "ada.z@example.com"));
+        teacher = teacherRepository.save(new Teacher("Dr. Zebulon Grey", "grey@example.com", null));
+        course = courseRepository.save(new Course("Zebulon Studies", "ZEB100", "Everything about 50% of zebras", 3));
+    }
+
+    @Test
+    @DisplayName("Should rank exact matches above prefix and substring matches")
+    void testRanking() {
+        // Act
+        SearchPageDTO page = searchService.search("zebulon", null, 0, 10);
+
+        // Assert
+        List<SearchResultDTO> items = page.getItems();
+        assertEquals(4, items.size());
+        assertEquals(exactStudent.getId(), items.get(0).getId());
+        assertEquals("STUDENT", items.get(0).getType());
+        assertTrue(items.get(0).getRank() > items.get(items.size() - 1).getRank());
+        assertTrue(items.stream().anyMatch(r -> r.getId().equals(partialStudent.getId())));
+        assertFalse(page.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Should match roll numbers, emails and course codes")
+    void testSecondaryColumns() {
+        // Act
+        SearchPageDTO byRoll = searchService.search("ZB002", null, 0, 10);
+        SearchPageDTO byEmail = searchService.search("grey@example", null, 0, 10);
+        SearchPageDTO byCode = searchService.search("zeb100", null, 0, 10);
+
+        // Assert
+        assertEquals(partialStudent.getId(), byRoll.getItems().get(0).getId());
+        assertEquals("ZB002", byRoll.getItems().get(0).getDetail());
+        assertEquals(teacher.getId(), byEmail.getItems().get(0).getId());
+        assertEquals("TEACHER", byEmail.getItems().get(0).getType());
+        assertEquals(course.getId(), byCode.getItems().get(0).getId());
+        assertEquals("COURSE", byCode.getItems().get(0).getType());
+    }
+
+    @Test
+    @DisplayName("Should restrict results to the requested types")
+    void testTypeFilter() {
+        // Act
+        SearchPageDTO page = searchService.search("zebulon", Set.of(SearchService.Type.TEACHER,
+                SearchService.Type.COURSE), 0, 10);
+
+        // Assert
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.getItems().stream().noneMatch(r -> r.getType().equals("STUDENT")));
+    }
+
+    @Test
+    @DisplayName("Should page through results and report whether more exist")
+    void testPagination() {
+        // Act
+        SearchPageDTO first = searchService.search("zebulon", null, 0, 3);
+        SearchPageDTO second = searchService.search("zebulon", null, 1, 3);
+
+        // Assert
+        assertEquals(3, first.getItems().size());
+        assertTrue(first.isHasNext());
+        assertEquals(1, second.getItems().size());
+        assertFalse(second.isHasNext());
+        assertTrue(first.getItems().stream().noneMatch(r -> r.getId().equals(second.getItems().get(0).getId())
+                && r.getType().equals(second.getItems().get(0).getType())));
+    }
+
+    @Test
+    @DisplayName("Should treat LIKE wildcards literally and ignore blank terms")
+    void testWildcardsAndBlankTerms() {
+        // Act
+        SearchPageDTO percent = searchService.search("50%", null, 0, 10);
+        SearchPageDTO underscore = searchService.search("_", null, 0, 10);
+        SearchPageDTO blank = searchService.search("   ", null, 0, 10);
+
+        // Assert
+        assertEquals(1, percent.getItems().size());
+        assertEquals(course.getId(), percent.getItems().get(0).getId());
+        assertTrue(underscore.getItems().isEmpty());
+        assertTrue(blank.getItems().isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.webapp.service;
 
 import com.example.webapp.entity.Dept;
 import com.example.webapp.entity.Student;
+import com.example.webapp.repository.CourseRepository;
 import com.example.webapp.repository.StudentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +27,12 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private CourseRepository courseRepository;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
     @InjectMocks
     private StudentService studentService;
 
@@ -124,12 +131,15 @@ class StudentServiceTest {
     @DisplayName("Should delete student by id")
     void testDeleteStudent() {
         // Arrange
+        when(studentRepository.findUsernameById(1L)).thenReturn(Optional.of("john"));
         doNothing().when(studentRepository).deleteById(1L);
 
         // Act
         studentService.deleteStudent(1L);
 
         // Assert
+        verify(userDetailsService, times(1)).evict("john");
+        verify(courseRepository, times(1)).releaseSeatsOfStudent(1L);
         verify(studentRepository, times(1)).deleteById(1L);
     }
 